@@ -36,6 +36,7 @@ val jeiVersion: String = "9.7.1.232"
 val patchouliVersion: String = "1.18.2-70"
 val jadeVersion: String = "3970956"
 val topVersion: String = "3965688"
+val jmhVersion: String = "1.36"
 
 val modId: String = "tfc"
 val modVersion: String = System.getenv("VERSION") ?: "0.0.0-indev"
@@ -59,6 +60,14 @@ java {
     toolchain.languageVersion.set(JavaLanguageVersion.of(17))
 }
 
+// Benchmarks live in their own source set, so they can see main (and Minecraft) but never end up in the mod jar
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+        runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
+    }
+}
+
 idea {
     module {
         excludeDirs.add(file("run"))
@@ -110,6 +119,10 @@ dependencies {
     // There is not a testImplementation-like configuration, AFAIK, that is available at minecraft runtime, so we use minecraftLibrary
     minecraftLibrary("org.junit.jupiter:junit-jupiter-api:5.9.0")
     minecraftLibrary("org.junit.jupiter:junit-jupiter-engine:5.9.0")
+
+    // JMH
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
 }
 
 minecraft {
@@ -260,6 +273,23 @@ tasks {
         }
     }
 
+    // Runs the JMH benchmarks. Pass -Pjmh_include=<regex> to run a subset, results are written to build/reports/jmh
+    register("jmh", JavaExec::class) {
+        group = "verification"
+        description = "Runs the JMH benchmarks in the jmh source set"
+        dependsOn("jmhClasses")
+
+        classpath = sourceSets["jmh"].runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+
+        val include: String = project.findProperty("jmh_include") as String? ?: ".*"
+        val results = file("$buildDir/reports/jmh/results.json")
+        args(include, "-prof", "gc", "-rf", "json", "-rff", results.absolutePath)
+        doFirst {
+            results.parentFile.mkdirs()
+        }
+    }
+
     register("generateSources", Copy::class) {
         from("src/main/java/")
         into("${buildDir}/generated-src")
@@ -1643,8 +1643,10 @@ def generate(rm: ResourceManager):
 
     rm.blockstate('bellows', model='tfc:block/bellows', variants=four_rotations('tfc:block/bellows', (270, 180, None, 90))).with_lang(lang('Bellows')).with_block_loot('tfc:bellows').with_tag('minecraft:mineable/axe')
 
-    rm.blockstate('ingot_pile', 'tfc:block/empty').with_lang(lang('ingot pile'))
-    rm.blockstate('sheet_pile', 'tfc:block/empty').with_lang(lang('sheet pile'))
+    rm.blockstate('ingot_pile', 'tfc:block/ingot_pile').with_lang(lang('ingot pile'))
+    rm.blockstate('sheet_pile', 'tfc:block/sheet_pile').with_lang(lang('sheet pile'))
+    rm.custom_block_model('ingot_pile', 'tfc:ingot_pile', {'textures': {'particle': 'tfc:block/empty'}})
+    rm.custom_block_model('sheet_pile', 'tfc:sheet_pile', {'textures': {'particle': 'tfc:block/empty'}})
 
     for be in BLOCK_ENTITIES:
         rm.lang('tfc.block_entity.%s' % be, lang(be))
@@ -1247,6 +1247,11 @@ DEFAULT_LANG = {
     'tfc.commands.heat.set_heat': 'Held item heat set to %s',
     'tfc.commands.clear_world.starting': 'Clearing world. Prepare for lag...',
     'tfc.commands.clear_world.done': 'Cleared %d Block(s).',
+    'tfc.commands.pregen.started': 'Pre-generating %s chunks around chunk (%s, %s).',
+    'tfc.commands.pregen.already_running': 'A pre-generation task is already running. Use /tfc pregen stop to cancel it.',
+    'tfc.commands.pregen.stopped': 'Stopped pre-generation.',
+    'tfc.commands.pregen.not_running': 'No pre-generation task is running.',
+    'tfc.commands.pregen.status': 'Pre-generated %s / %s chunks (%s failed), at %s chunks/s. ETA: %s seconds.',
     'tfc.commands.countblock.done': 'Found %d %s',
     'tfc.commands.countblock.invalid_block': 'Not a block or block tag: %s',
     'tfc.commands.player.query_hunger': 'Hunger is %s / 20',
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelHeightAccessor;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.world.TFCChunkGenerator;
+
+/**
+ * Benchmarks {@link TFCChunkGenerator#getBaseHeight(int, int, Heightmap.Types, LevelHeightAccessor)}, as queried by structure and jigsaw placement. Each invocation places a structure in a new area, querying an 8x8 grid of positions over a 32x32 block area, which spans four chunks.
+ * <ul>
+ *     <li>{@code quartGrid} queries through the generator, which samples a grid of heights per chunk on the first query, and interpolates it.</li>
+ *     <li>{@code heightFiller} queries through the previous path, which created a height filler, sampling biome weights for the whole chunk, for every query.</li>
+ * </ul>
+ * Reported as time per query. Run with {@code -prof gc} (the default for the {@code jmh} task) and {@code gc.alloc.rate.norm} is the allocation per query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+public class BaseHeightBenchmark
+{
+    private static final int QUERIES = 8 * 8;
+    private static final int AREAS = 1024;
+    private static final int AREA_SPACING = 4096;
+
+    private static final LevelHeightAccessor LEVEL = new LevelHeightAccessor()
+    {
+        @Override
+        public int getHeight()
+        {
+            return 384;
+        }
+
+        @Override
+        public int getMinBuildHeight()
+        {
+            return -64;
+        }
+    };
+
+    private TFCChunkGenerator generator;
+    private int area;
+    private int minX, minZ;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        BenchmarkHelper.bootstrap();
+
+        generator = BenchmarkHelper.chunkGenerator();
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation()
+    {
+        // Areas are far enough apart that none share a chunk, and enough of them are visited that an area's heights are evicted before it is revisited
+        area = (area + 1) % AREAS;
+        minX = (area - AREAS / 2) * AREA_SPACING;
+        minZ = (area % 32) * AREA_SPACING;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void quartGrid(Blackhole blackhole)
+    {
+        for (int i = 0; i < QUERIES; i++)
+        {
+            blackhole.consume(generator.getBaseHeight(minX + ((i & 7) << 2), minZ + ((i >> 3) << 2), Heightmap.Types.WORLD_SURFACE_WG, LEVEL));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void heightFiller(Blackhole blackhole)
+    {
+        for (int i = 0; i < QUERIES; i++)
+        {
+            final int x = minX + ((i & 7) << 2), z = minZ + ((i >> 3) << 2);
+            final ChunkPos pos = new ChunkPos(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z));
+            blackhole.consume((int) generator.createHeightFillerForChunk(pos).sampleHeight(x, z));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import com.mojang.serialization.Lifecycle;
+import net.minecraft.DetectedVersion;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.Registry;
+import net.minecraft.data.BuiltinRegistries;
+import net.minecraft.data.worldgen.biome.OverworldBiomes;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.levelgen.NoiseGeneratorSettings;
+
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.world.TFCChunkGenerator;
+import net.dries007.tfc.world.biome.BiomeSourceExtension;
+import net.dries007.tfc.world.biome.LegacyBiomeSource;
+import net.dries007.tfc.world.biome.TFCBiomes;
+import net.dries007.tfc.world.settings.ClimateSettings;
+import net.dries007.tfc.world.settings.RockLayerSettings;
+import net.dries007.tfc.world.settings.RockSettings;
+
+/**
+ * Shared setup for all benchmarks. This mirrors the test bootstrap, as benchmarks run headless, without any mod loading.
+ * <p>
+ * All benchmarks use {@link #SEED}, so results are comparable between runs and between TFC versions.
+ * <p>
+ * The stages of {@link TFCChunkGenerator#fillFromNoise} after biome blending and column heights ({@code ChunkNoiseFiller}, {@code TFCAquifer} and surface building) place TFC blocks and fluids, which are only registered during mod loading, so they are not covered here.
+ */
+public final class BenchmarkHelper
+{
+    public static final long SEED = 1923874123L;
+
+    private static boolean bootstrapped = false;
+
+    public synchronized static void bootstrap()
+    {
+        if (!bootstrapped)
+        {
+            bootstrapped = true;
+            try
+            {
+                final Field field = SharedConstants.class.getDeclaredField("CURRENT_VERSION");
+                field.setAccessible(true);
+                field.set(null, DetectedVersion.BUILT_IN);
+            }
+            catch (NoSuchFieldException | IllegalAccessException e)
+            {
+                throw new IllegalStateException("Unable to set SharedConstants#CURRENT_VERSION", e);
+            }
+            Bootstrap.bootStrap();
+        }
+    }
+
+    /**
+     * TFC's rock blocks are not registered outside a running game, so rock layers are built from the first vanilla blocks instead. Only the identity of the rocks matters for chunk data generation.
+     */
+    @SuppressWarnings("deprecation")
+    public static RockLayerSettings rockLayerSettings()
+    {
+        final Map<ResourceLocation, RockSettings> rocks = new HashMap<>();
+        final List<Block> blocks = Registry.BLOCK.stream().toList();
+        for (int i = 0; i < 20; i++)
+        {
+            final ResourceLocation id = Helpers.identifier("rock_" + i);
+            final Block block = blocks.get(i + 1);
+            rocks.put(id, new RockSettings(id, block, block, block, block, block, block, Optional.empty(), Optional.empty(), i % 3 == 0, i % 3 == 1, i % 3 == 2));
+        }
+        return new RockLayerSettings(rocks, 7);
+    }
+
+    public static BiomeSourceExtension.Settings biomeSourceSettings()
+    {
+        return new BiomeSourceExtension.Settings(SEED, 8_000, 0, 0, rockLayerSettings(), ClimateSettings.DEFAULT, ClimateSettings.DEFAULT);
+    }
+
+    // todo: benchmark noise filling, aquifers and surfaces, once the harness can register TFC blocks and fluids
+    /**
+     * Builds a chunk generator as the TFC world preset does, with the rock layers from {@link #rockLayerSettings()}.
+     * The biome registry is not loaded from data outside a running game, so each TFC biome is registered with placeholder vanilla biome properties. World generation only uses TFC biomes by key, through their {@link net.dries007.tfc.world.biome.BiomeExtension}, so heights and biome weights are unaffected.
+     */
+    public static TFCChunkGenerator chunkGenerator()
+    {
+        final MappedRegistry<Biome> biomes = new MappedRegistry<>(Registry.BIOME_REGISTRY, Lifecycle.experimental(), null);
+        for (ResourceKey<Biome> key : TFCBiomes.getAllKeys())
+        {
+            biomes.register(key, OverworldBiomes.theVoid(), Lifecycle.stable());
+        }
+        return new TFCChunkGenerator(BuiltinRegistries.STRUCTURE_SETS, BuiltinRegistries.NOISE, new LegacyBiomeSource(biomeSourceSettings(), biomes), BuiltinRegistries.NOISE_GENERATOR_SETTINGS.getHolderOrThrow(NoiseGeneratorSettings.OVERWORLD), false, SEED);
+    }
+
+    /**
+     * @return {@code count} chunk positions, in a square spiral outwards from (0, 0), the order used by pre-generation.
+     */
+    public static ChunkPos[] spiral(int count)
+    {
+        final ChunkPos[] positions = new ChunkPos[count];
+        int x = 0, z = 0, dx = 0, dz = -1;
+        for (int i = 0; i < count; i++)
+        {
+            positions[i] = new ChunkPos(x, z);
+            if (x == z || (x < 0 && x == -z) || (x > 0 && x == 1 - z))
+            {
+                final int t = dx;
+                dx = -dz;
+                dz = t;
+            }
+            x += dx;
+            z += dz;
+        }
+        return positions;
+    }
+
+    private BenchmarkHelper() {}
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.world.level.ChunkPos;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.world.biome.BiomeSourceExtension;
+import net.dries007.tfc.world.chunkdata.ChunkData;
+import net.dries007.tfc.world.chunkdata.TFCChunkDataGenerator;
+import net.dries007.tfc.world.settings.RockLayerSettings;
+
+/**
+ * Benchmarks {@link TFCChunkDataGenerator#generate(ChunkData)}, which runs once for every proto chunk.
+ * <p>
+ * Reported as chunks per second. Run with {@code -prof gc} (the default for the {@code jmh} task) and {@code gc.alloc.rate.norm} is the allocation per chunk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+public class ChunkDataGeneratorBenchmark
+{
+    private static final int CHUNKS = 1024;
+
+    private TFCChunkDataGenerator generator;
+    private RockLayerSettings rockLayerSettings;
+    private ChunkPos[] positions;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        BenchmarkHelper.bootstrap();
+
+        final BiomeSourceExtension.Settings settings = BenchmarkHelper.biomeSourceSettings();
+
+        rockLayerSettings = settings.rockLayerSettings();
+        generator = new TFCChunkDataGenerator(settings);
+        positions = BenchmarkHelper.spiral(CHUNKS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNKS)
+    public void generate(Blackhole blackhole)
+    {
+        for (ChunkPos pos : positions)
+        {
+            final ChunkData data = new ChunkData(pos, rockLayerSettings);
+            generator.generate(data);
+            blackhole.consume(data);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.world.level.ChunkPos;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.world.ChunkHeightFiller;
+import net.dries007.tfc.world.TFCChunkGenerator;
+
+/**
+ * Benchmarks the first stages of {@link TFCChunkGenerator#fillFromNoise}, which run once for every proto chunk.
+ * <ul>
+ *     <li>{@code blendBiomes} measures sampling and blending the biome weights of a chunk, and creating its biome noise samplers.</li>
+ *     <li>{@code sampleHeights} measures sampling the height of every column of a chunk, from already blended biome weights.</li>
+ * </ul>
+ * Reported as time per chunk. Run with {@code -prof gc} (the default for the {@code jmh} task) and {@code gc.alloc.rate.norm} is the allocation per chunk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+public class ChunkGeneratorBenchmark
+{
+    private static final int CHUNKS = 64;
+
+    private TFCChunkGenerator generator;
+    private ChunkPos[] positions;
+    private ChunkHeightFiller[] fillers;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        BenchmarkHelper.bootstrap();
+
+        generator = BenchmarkHelper.chunkGenerator();
+        positions = BenchmarkHelper.spiral(CHUNKS);
+        fillers = new ChunkHeightFiller[CHUNKS];
+        for (int i = 0; i < CHUNKS; i++)
+        {
+            fillers[i] = generator.createHeightFillerForChunk(positions[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNKS)
+    public void blendBiomes(Blackhole blackhole)
+    {
+        for (ChunkPos pos : positions)
+        {
+            blackhole.consume(generator.createHeightFillerForChunk(pos));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNKS)
+    public void sampleHeights(Blackhole blackhole)
+    {
+        for (int i = 0; i < CHUNKS; i++)
+        {
+            final ChunkHeightFiller filler = fillers[i];
+            final int blockX = positions[i].getMinBlockX(), blockZ = positions[i].getMinBlockZ();
+            for (int x = 0; x < 16; x++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    blackhole.consume(filler.sampleHeight(blockX + x, blockZ + z));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.climate.OverworldClimateModel;
+import net.dries007.tfc.world.biome.BiomeSourceExtension;
+import net.dries007.tfc.world.chunkdata.ChunkData;
+import net.dries007.tfc.world.chunkdata.ChunkDataCache;
+import net.dries007.tfc.world.chunkdata.TFCChunkDataGenerator;
+
+/**
+ * Benchmarks the climate queries made on the render path, every frame: temperature and rainfall for colors, and fogginess for fog.
+ * <ul>
+ *     <li>{@code temperature} queries {@link OverworldClimateModel#getTemperature(LevelReader, BlockPos, long, int)}.</li>
+ *     <li>{@code fogginess} queries {@link OverworldClimateModel#getFogginess(LevelReader, BlockPos, long)}.</li>
+ * </ul>
+ * With {@code advance = false}, all queries are at the same time, as within a single frame, which reuses the cached climate context and fog parameters. With {@code advance = true}, each query is at a new tick (for temperature) or a new day (for fogginess), which recomputes them on every query, as was previously done regardless of time.
+ * <p>
+ * The model is queried directly, as {@link net.dries007.tfc.util.climate.Climate#model} requires the world tracker capability, which is not present outside a running game. Chunk data is generated, and served from the server chunk data cache, to a level which is otherwise empty.
+ * Reported as time per query. Run with {@code -prof gc} (the default for the {@code jmh} task) and {@code gc.alloc.rate.norm} is the allocation per query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+public class ClimateQueryBenchmark
+{
+    private static final int QUERIES = 256;
+    private static final int DAYS_IN_MONTH = 8;
+
+    /**
+     * A server side level, with full sky light, and no chunks. Chunk data is found through {@link ChunkDataCache#SERVER}.
+     */
+    private static LevelReader createLevel()
+    {
+        return (LevelReader) Proxy.newProxyInstance(LevelReader.class.getClassLoader(), new Class<?>[] {LevelReader.class}, (proxy, method, args) -> switch (method.getName())
+            {
+                case "getBrightness", "getRawBrightness" -> 15;
+                default -> method.getReturnType() == boolean.class ? false : method.getReturnType() == int.class ? 0 : null;
+            });
+    }
+
+    @Param({"false", "true"})
+    private boolean advance;
+
+    private OverworldClimateModel model;
+    private LevelReader level;
+    private BlockPos[] positions;
+    private long ticks;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        BenchmarkHelper.bootstrap();
+
+        final BiomeSourceExtension.Settings settings = BenchmarkHelper.biomeSourceSettings();
+        final TFCChunkDataGenerator generator = new TFCChunkDataGenerator(settings);
+        final ChunkPos chunkPos = new ChunkPos(0, 0);
+        final ChunkData data = new ChunkData(chunkPos, settings.rockLayerSettings());
+
+        generator.generate(data);
+        ChunkDataCache.SERVER.update(chunkPos.toLong(), data);
+
+        model = new OverworldClimateModel();
+        level = createLevel();
+        positions = new BlockPos[QUERIES];
+        for (int i = 0; i < QUERIES; i++)
+        {
+            positions[i] = new BlockPos(i & 15, 64 + (i >> 4), (i * 7) & 15);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        ChunkDataCache.SERVER.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void temperature(Blackhole blackhole)
+    {
+        for (BlockPos pos : positions)
+        {
+            if (advance)
+            {
+                ticks++;
+            }
+            blackhole.consume(model.getTemperature(level, pos, ticks, DAYS_IN_MONTH));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void fogginess(Blackhole blackhole)
+    {
+        for (BlockPos pos : positions)
+        {
+            if (advance)
+            {
+                ticks += ICalendar.TICKS_IN_DAY;
+            }
+            blackhole.consume(model.getFogginess(level, pos, ticks));
+        }
+    }
+}
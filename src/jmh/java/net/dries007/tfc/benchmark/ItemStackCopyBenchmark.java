@@ -0,0 +1,81 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
+import org.openjdk.jmh.annotations.*;
+
+import net.dries007.tfc.common.capabilities.ItemCapabilities;
+import net.dries007.tfc.common.capabilities.forge.Forging;
+import net.dries007.tfc.common.capabilities.forge.ForgingCapability;
+
+/**
+ * Benchmarks {@link ItemStack#copy()}, which gathers capabilities for every copy, and thus runs {@link ItemCapabilities#attach(AttachCapabilitiesEvent)}.
+ * <ul>
+ *     <li>{@code attach = false} is the cost of a copy without any TFC capabilities, for reference.</li>
+ *     <li>{@code copy} measures a copy alone, where the {@link Forging} capability is attached, but never initialized.</li>
+ *     <li>{@code copyAndQuery} measures a copy followed by a query of the {@link Forging} capability, which initializes it.</li>
+ * </ul>
+ * No definitions are loaded, so the per item plan is empty for every item except eggs, which always have the egg capability.
+ * <p>
+ * Run with {@code -prof gc} (the default for the {@code jmh} task) and {@code gc.alloc.rate.norm} is the allocation per copy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+public class ItemStackCopyBenchmark
+{
+    @Param({"minecraft:stick", "minecraft:egg"})
+    public String item;
+
+    @Param({"true", "false"})
+    public boolean attach;
+
+    private final Consumer<AttachCapabilitiesEvent<ItemStack>> listener = ItemCapabilities::attach;
+    private ItemStack stack;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        BenchmarkHelper.bootstrap();
+
+        // The event bus is only started by mod loading
+        MinecraftForge.EVENT_BUS.start();
+        if (attach)
+        {
+            MinecraftForge.EVENT_BUS.addGenericListener(ItemStack.class, listener);
+        }
+        stack = new ItemStack(Registry.ITEM.get(new ResourceLocation(item)), 16);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        MinecraftForge.EVENT_BUS.unregister(listener);
+    }
+
+    @Benchmark
+    public ItemStack copy()
+    {
+        return stack.copy();
+    }
+
+    @Benchmark
+    public Object copyAndQuery()
+    {
+        return stack.copy().getCapability(ForgingCapability.CAPABILITY).orElse(null);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.Registry;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.common.capabilities.forge.ForgeRule;
+import net.dries007.tfc.common.recipes.AnvilRecipe;
+import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
+import net.dries007.tfc.util.Helpers;
+
+/**
+ * Benchmarks finding the recipes for an item, over a large synthetic set of {@link AnvilRecipe}s, each with a single random item as input.
+ * <ul>
+ *     <li>{@code linear} tests every recipe, as recipe lookups did before they were indexed.</li>
+ *     <li>{@code indexed} queries {@link AnvilRecipe#CACHE}, an {@link net.dries007.tfc.util.collections.IndirectHashCollection}, through {@link AnvilRecipe#hasAny(net.minecraft.world.level.Level, ItemStack, int)}.</li>
+ * </ul>
+ * Reported as time per lookup. Most queried items have no recipe, as is the case for most items placed on an anvil, or in a furnace, which is the worst case for a linear scan.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+public class RecipeLookupBenchmark
+{
+    private static final int QUERIES = 1024;
+    private static final int TIER = 0; // All recipes have tier 0, so only the input is tested
+
+    @Param({"100", "1000", "5000"})
+    public int recipeCount;
+
+    private final List<AnvilRecipe> recipes = new ArrayList<>();
+    private final ItemStack[] stacks = new ItemStack[QUERIES];
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        BenchmarkHelper.bootstrap();
+
+        final Random random = new Random(BenchmarkHelper.SEED);
+        for (int i = 0; i < recipeCount; i++)
+        {
+            final Ingredient input = Ingredient.of(Registry.ITEM.byId(1 + random.nextInt(Registry.ITEM.size() - 1)));
+            recipes.add(new AnvilRecipe(Helpers.identifier("benchmark_" + i), input, 0, new ForgeRule[0], false, ItemStackProvider.empty()));
+        }
+        AnvilRecipe.CACHE.reload(recipes);
+
+        for (int i = 0; i < QUERIES; i++)
+        {
+            stacks[i] = new ItemStack(Registry.ITEM.byId(1 + random.nextInt(Registry.ITEM.size() - 1)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void linear(Blackhole blackhole)
+    {
+        for (ItemStack stack : stacks)
+        {
+            boolean found = false;
+            for (AnvilRecipe recipe : recipes)
+            {
+                if (recipe.getInput().test(stack))
+                {
+                    found = true;
+                    break;
+                }
+            }
+            blackhole.consume(found);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void indexed(Blackhole blackhole)
+    {
+        for (ItemStack stack : stacks)
+        {
+            blackhole.consume(AnvilRecipe.hasAny(null, stack, TIER));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.Units;
+
+/**
+ * Benchmarks region queries which hit the cache, as seen by every chunk after the first in a given region. The generator is built, and the region cached, once per trial, so only cache hits are measured.
+ * <ul>
+ *     <li>{@code cachedRegion} queries the region, over a 32x32 grid area around the center of a cell.</li>
+ *     <li>{@code cachedPartition} queries the partition, within the same area.</li>
+ * </ul>
+ * Reported as time per query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+public class RegionCacheBenchmark
+{
+    private static final int QUERIES = 1024;
+
+    private RegionGenerator generator;
+    private int gridX, gridZ;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        BenchmarkHelper.bootstrap();
+
+        gridX = Units.cellToGrid(0) + Units.CELL_WIDTH_IN_GRID / 2;
+        gridZ = Units.cellToGrid(0) + Units.CELL_WIDTH_IN_GRID / 2;
+
+        generator = new RegionGenerator(BenchmarkHelper.SEED);
+        for (int i = 0; i < QUERIES; i++)
+        {
+            generator.getOrCreatePartition(gridX + (i & 31), gridZ + (i >> 5));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void cachedRegion(Blackhole blackhole)
+    {
+        for (int i = 0; i < QUERIES; i++)
+        {
+            blackhole.consume(generator.getOrCreateRegion(gridX + (i & 31), gridZ + (i >> 5)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void cachedPartition(Blackhole blackhole)
+    {
+        for (int i = 0; i < QUERIES; i++)
+        {
+            blackhole.consume(generator.getOrCreatePartition(gridX + (i & 31), gridZ + (i >> 5)));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+import net.dries007.tfc.world.region.Region;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.RegionPartition;
+import net.dries007.tfc.world.region.Units;
+
+/**
+ * Benchmarks the region stage of world generation. Each invocation uses a fresh {@link RegionGenerator}, so every query runs the full {@link RegionGenerator.Task} pipeline rather than hitting the cache.
+ * <ul>
+ *     <li>{@code buildRegion} measures a single region (one cell, ~12km across).</li>
+ *     <li>{@code buildPartition} measures a partition, which requires building the 3x3 area of regions around it, plus collecting rivers.</li>
+ * </ul>
+ * Queries which hit the cache are measured separately, by {@link RegionCacheBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+public class RegionGeneratorBenchmark
+{
+    @Param({"0", "1", "2"})
+    public int cell;
+
+    private RegionGenerator generator;
+    private int gridX, gridZ;
+
+    @Setup(Level.Trial)
+    public void setupTrial()
+    {
+        BenchmarkHelper.bootstrap();
+
+        // Sample the center of a cell, offset along the diagonal so each parameter lands in a different region
+        gridX = Units.cellToGrid(cell) + Units.CELL_WIDTH_IN_GRID / 2;
+        gridZ = Units.cellToGrid(cell) + Units.CELL_WIDTH_IN_GRID / 2;
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation()
+    {
+        generator = new RegionGenerator(BenchmarkHelper.SEED);
+    }
+
+    @Benchmark
+    public Region buildRegion()
+    {
+        return generator.getOrCreateRegion(gridX, gridZ);
+    }
+
+    @Benchmark
+    public RegionPartition buildPartition()
+    {
+        return generator.getOrCreatePartition(gridX, gridZ);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.world.region.Region;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.Units;
+
+/**
+ * Benchmarks sampling every grid point in the bounding box of a single, already built, {@link Region}, as the biome layer does.
+ * <ul>
+ *     <li>{@code point} samples through {@link Region#maybeAt(int, int)}, which creates a {@link Region.Point} per sample.</li>
+ *     <li>{@code index} samples through {@link Region#maybeIndex(int, int)} and the index accessors, which allocates nothing.</li>
+ * </ul>
+ * Reported as time per pass over the region. Run with {@code -prof gc} (the default for the {@code jmh} task) and {@code gc.alloc.rate.norm} is the allocation per pass.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+public class RegionSamplingBenchmark
+{
+    private Region region;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        BenchmarkHelper.bootstrap();
+
+        final int grid = Units.CELL_WIDTH_IN_GRID / 2;
+        region = new RegionGenerator(BenchmarkHelper.SEED).getOrCreateRegion(grid, grid);
+    }
+
+    @Benchmark
+    public void point(Blackhole blackhole)
+    {
+        for (int x = region.minX(); x <= region.maxX(); x++)
+        {
+            for (int z = region.minZ(); z <= region.maxZ(); z++)
+            {
+                final Region.Point point = region.maybeAt(x, z);
+                if (point != null)
+                {
+                    blackhole.consume(point.biome());
+                    blackhole.consume(point.rainfall());
+                    blackhole.consume(point.land());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void index(Blackhole blackhole)
+    {
+        for (int x = region.minX(); x <= region.maxX(); x++)
+        {
+            for (int z = region.minZ(); z <= region.maxZ(); z++)
+            {
+                final int index = region.maybeIndex(x, z);
+                if (index != -1)
+                {
+                    blackhole.consume(region.biome(index));
+                    blackhole.consume(region.rainfall(index));
+                    blackhole.consume(region.land(index));
+                }
+            }
+        }
+    }
+}
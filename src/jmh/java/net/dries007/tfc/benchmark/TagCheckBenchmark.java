@@ -0,0 +1,161 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.collections.TagBitSetCache;
+
+/**
+ * Benchmarks tag membership checks, as made by neighbor updates, world generation and inventory checks, comparing {@link Helpers#checkTag}, which queries the Forge tag manager, against {@link Helpers#isBlock}, {@link Helpers#isItem} and {@link Helpers#isFluid}, which query a {@link TagBitSetCache}.
+ * <p>
+ * Each registry is bound with {@link #TAGS} synthetic tags, each containing a random quarter of all entries. Each invocation checks {@link #QUERIES} random (entry, tag) pairs, against a cache which has already compiled every tag.
+ * Reported as time per check.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+public class TagCheckBenchmark
+{
+    private static final int TAGS = 64;
+    private static final int QUERIES = 1024;
+
+    private static <T> List<TagKey<T>> bindTags(Registry<T> registry, Random random)
+    {
+        final List<Holder<T>> holders = registry.holders().map(holder -> (Holder<T>) holder).toList();
+        final Map<TagKey<T>, List<Holder<T>>> tags = new HashMap<>();
+        for (int i = 0; i < TAGS; i++)
+        {
+            final List<Holder<T>> values = new ArrayList<>();
+            for (Holder<T> holder : holders)
+            {
+                if (random.nextInt(4) == 0)
+                {
+                    values.add(holder);
+                }
+            }
+            tags.put(TagKey.create(registry.key(), Helpers.identifier("benchmark_" + i)), values);
+        }
+        registry.bindTags(tags);
+        return new ArrayList<>(tags.keySet());
+    }
+
+    private final Block[] blocks = new Block[QUERIES];
+    private final Item[] items = new Item[QUERIES];
+    private final Fluid[] fluids = new Fluid[QUERIES];
+    @SuppressWarnings("unchecked") private final TagKey<Block>[] blockTags = new TagKey[QUERIES];
+    @SuppressWarnings("unchecked") private final TagKey<Item>[] itemTags = new TagKey[QUERIES];
+    @SuppressWarnings("unchecked") private final TagKey<Fluid>[] fluidTags = new TagKey[QUERIES];
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        BenchmarkHelper.bootstrap();
+
+        final Random random = new Random(BenchmarkHelper.SEED);
+        final List<TagKey<Block>> allBlockTags = bindTags(Registry.BLOCK, random);
+        final List<TagKey<Item>> allItemTags = bindTags(Registry.ITEM, random);
+        final List<TagKey<Fluid>> allFluidTags = bindTags(Registry.FLUID, random);
+        TagBitSetCache.invalidateAll();
+
+        for (int i = 0; i < QUERIES; i++)
+        {
+            blocks[i] = Registry.BLOCK.byId(random.nextInt(Registry.BLOCK.size()));
+            items[i] = Registry.ITEM.byId(random.nextInt(Registry.ITEM.size()));
+            fluids[i] = Registry.FLUID.byId(random.nextInt(Registry.FLUID.size()));
+            blockTags[i] = allBlockTags.get(random.nextInt(TAGS));
+            itemTags[i] = allItemTags.get(random.nextInt(TAGS));
+            fluidTags[i] = allFluidTags.get(random.nextInt(TAGS));
+        }
+
+        // Compile every tag up front, so only the steady state is measured
+        for (int i = 0; i < QUERIES; i++)
+        {
+            Helpers.isBlock(blocks[i], blockTags[i]);
+            Helpers.isItem(items[i], itemTags[i]);
+            Helpers.isFluid(fluids[i], fluidTags[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void blockTagManager(Blackhole blackhole)
+    {
+        for (int i = 0; i < QUERIES; i++)
+        {
+            blackhole.consume(Helpers.checkTag(ForgeRegistries.BLOCKS, blocks[i], blockTags[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void blockBitSet(Blackhole blackhole)
+    {
+        for (int i = 0; i < QUERIES; i++)
+        {
+            blackhole.consume(Helpers.isBlock(blocks[i], blockTags[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void itemTagManager(Blackhole blackhole)
+    {
+        for (int i = 0; i < QUERIES; i++)
+        {
+            blackhole.consume(Helpers.checkTag(ForgeRegistries.ITEMS, items[i], itemTags[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void itemBitSet(Blackhole blackhole)
+    {
+        for (int i = 0; i < QUERIES; i++)
+        {
+            blackhole.consume(Helpers.isItem(items[i], itemTags[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void fluidTagManager(Blackhole blackhole)
+    {
+        for (int i = 0; i < QUERIES; i++)
+        {
+            blackhole.consume(Helpers.checkTag(ForgeRegistries.FLUIDS, fluids[i], fluidTags[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void fluidBitSet(Blackhole blackhole)
+    {
+        for (int i = 0; i < QUERIES; i++)
+        {
+            blackhole.consume(Helpers.isFluid(fluids[i], fluidTags[i]));
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.Mirror;
+import net.minecraft.world.level.block.Rotation;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.templatesystem.BlockIgnoreProcessor;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructurePlaceSettings;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
+import org.openjdk.jmh.annotations.*;
+
+import net.dries007.tfc.util.EnvironmentHelpers;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.world.feature.tree.TreeTemplate;
+
+/**
+ * Benchmarks placing a single tree from a synthetic 7x12x7 template, of a trunk and a blob of leaves, with the remaining volume filled with air, as saved tree templates are. The level is entirely air and discards placed blocks, so only the cost of placement is measured.
+ * <ul>
+ *     <li>{@code structureTemplate} places through the previous path, which runs every block of the {@link StructureTemplate} through the processors, and transforms it, on each placement.</li>
+ *     <li>{@code treeTemplate} places through a precompiled {@link TreeTemplate}, as {@link net.dries007.tfc.world.feature.tree.TreeHelpers} now does.</li>
+ * </ul>
+ * Reported as time per tree. Run with {@code -prof gc} (the default for the {@code jmh} task) and {@code gc.alloc.rate.norm} is the allocation per tree.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+public class TreePlacementBenchmark
+{
+    private static final int WIDTH = 7, HEIGHT = 12;
+
+    /**
+     * The previous implementation of {@code TreeHelpers#placeTemplate}, before templates were compiled.
+     */
+    private static void placeStructureTemplate(StructureTemplate template, List<StructureTemplate.Palette> palettes, StructurePlaceSettings settings, LevelAccessor level, BlockPos pos)
+    {
+        final List<StructureTemplate.StructureBlockInfo> transformedBlockInfos = settings.getRandomPalette(palettes, pos).blocks();
+        for (StructureTemplate.StructureBlockInfo blockInfo : StructureTemplate.processBlockInfos(level, pos, pos, settings, transformedBlockInfos, template))
+        {
+            final BlockState stateAt = level.getBlockState(blockInfo.pos);
+            if (EnvironmentHelpers.isWorldgenReplaceable(stateAt) || Helpers.isBlock(stateAt.getBlock(), BlockTags.LEAVES))
+            {
+                @SuppressWarnings("deprecation")
+                final BlockState stateReplace = blockInfo.state.mirror(settings.getMirror()).rotate(settings.getRotation());
+                level.setBlock(blockInfo.pos, stateReplace, 2);
+            }
+        }
+    }
+
+    private static StructureTemplate createTemplate()
+    {
+        final ListTag palette = new ListTag();
+        palette.add(NbtUtils.writeBlockState(Blocks.AIR.defaultBlockState()));
+        palette.add(NbtUtils.writeBlockState(Blocks.OAK_LOG.defaultBlockState()));
+        palette.add(NbtUtils.writeBlockState(Blocks.OAK_LEAVES.defaultBlockState()));
+
+        final ListTag blocks = new ListTag();
+        final int center = WIDTH / 2;
+        for (int x = 0; x < WIDTH; x++)
+        {
+            for (int y = 0; y < HEIGHT; y++)
+            {
+                for (int z = 0; z < WIDTH; z++)
+                {
+                    final int dx = x - center, dy = y - (HEIGHT - center), dz = z - center;
+                    final int state = x == center && z == center && y < HEIGHT - 2 ? 1 : dx * dx + dy * dy + dz * dz <= center * center ? 2 : 0;
+
+                    final ListTag blockPos = new ListTag();
+                    blockPos.add(IntTag.valueOf(x));
+                    blockPos.add(IntTag.valueOf(y));
+                    blockPos.add(IntTag.valueOf(z));
+
+                    final CompoundTag block = new CompoundTag();
+                    block.put("pos", blockPos);
+                    block.putInt("state", state);
+                    blocks.add(block);
+                }
+            }
+        }
+
+        final ListTag size = new ListTag();
+        size.add(IntTag.valueOf(WIDTH));
+        size.add(IntTag.valueOf(HEIGHT));
+        size.add(IntTag.valueOf(WIDTH));
+
+        final CompoundTag nbt = new CompoundTag();
+        nbt.put("size", size);
+        nbt.put("palette", palette);
+        nbt.put("blocks", blocks);
+        nbt.put("entities", new ListTag());
+
+        final StructureTemplate template = new StructureTemplate();
+        template.load(nbt);
+        return template;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<StructureTemplate.Palette> getPalettes(StructureTemplate template)
+    {
+        // The accessor mixin is not applied outside a running game
+        try
+        {
+            final Field field = StructureTemplate.class.getDeclaredField("palettes");
+            field.setAccessible(true);
+            return (List<StructureTemplate.Palette>) field.get(template);
+        }
+        catch (NoSuchFieldException | IllegalAccessException e)
+        {
+            throw new IllegalStateException("Unable to access StructureTemplate#palettes", e);
+        }
+    }
+
+    /**
+     * A level which is entirely air, and discards all placed blocks.
+     */
+    private static LevelAccessor createLevel()
+    {
+        final BlockState air = Blocks.AIR.defaultBlockState();
+        return (LevelAccessor) Proxy.newProxyInstance(LevelAccessor.class.getClassLoader(), new Class<?>[] {LevelAccessor.class}, (proxy, method, args) -> switch (method.getName())
+            {
+                case "getBlockState" -> air;
+                case "setBlock" -> true;
+                default -> method.getReturnType() == boolean.class ? false : method.getReturnType() == int.class ? 0 : null;
+            });
+    }
+
+    private StructureTemplate template;
+    private List<StructureTemplate.Palette> palettes;
+    private TreeTemplate treeTemplate;
+    private LevelAccessor level;
+    private StructurePlaceSettings settings;
+    private BlockPos pos;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        BenchmarkHelper.bootstrap();
+
+        template = createTemplate();
+        palettes = getPalettes(template);
+        treeTemplate = TreeTemplate.compile(template, palettes);
+        level = createLevel();
+        pos = new BlockPos(8, 64, 8);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation()
+    {
+        // Placement settings are created per tree, with a random rotation and mirror, as in TreeHelpers#getPlacementSettings
+        final Random random = new Random(BenchmarkHelper.SEED);
+        settings = new StructurePlaceSettings()
+            .setRandom(random)
+            .addProcessor(BlockIgnoreProcessor.STRUCTURE_AND_AIR)
+            .setRotation(Rotation.getRandom(random))
+            .setMirror(Mirror.values()[random.nextInt(Mirror.values().length)]);
+    }
+
+    @Benchmark
+    public void structureTemplate()
+    {
+        placeStructureTemplate(template, palettes, settings, level, pos);
+    }
+
+    @Benchmark
+    public void treeTemplate()
+    {
+        treeTemplate.place(level, pos, settings, 1f);
+    }
+}
@@ -6,6 +6,7 @@
 
 package net.dries007.tfc;
 
+import java.nio.file.Path;
 import java.util.Random;
 import java.util.concurrent.Executor;
 import com.mojang.datafixers.util.Pair;
@@ -74,8 +75,10 @@ import net.minecraft.world.level.chunk.ChunkStatus;
 import net.minecraft.world.level.chunk.EmptyLevelChunk;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.storage.LevelResource;
 import net.minecraft.world.level.storage.ServerLevelData;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
@@ -146,18 +149,13 @@ import net.dries007.tfc.common.blocks.rock.AqueductBlock;
 import net.dries007.tfc.common.blocks.rock.Rock;
 import net.dries007.tfc.common.blocks.rock.RockAnvilBlock;
 import net.dries007.tfc.common.blocks.wood.TFCLecternBlock;
-import net.dries007.tfc.common.capabilities.egg.EggCapability;
-import net.dries007.tfc.common.capabilities.egg.EggHandler;
+import net.dries007.tfc.common.capabilities.ItemCapabilities;
 import net.dries007.tfc.common.capabilities.food.FoodCapability;
-import net.dries007.tfc.common.capabilities.food.FoodDefinition;
 import net.dries007.tfc.common.capabilities.food.FoodHandler;
 import net.dries007.tfc.common.capabilities.food.IFood;
 import net.dries007.tfc.common.capabilities.food.TFCFoodData;
-import net.dries007.tfc.common.capabilities.forge.Forging;
 import net.dries007.tfc.common.capabilities.forge.ForgingBonus;
-import net.dries007.tfc.common.capabilities.forge.ForgingCapability;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
-import net.dries007.tfc.common.capabilities.heat.HeatDefinition;
 import net.dries007.tfc.common.capabilities.player.PlayerData;
 import net.dries007.tfc.common.capabilities.player.PlayerDataCapability;
 import net.dries007.tfc.common.capabilities.size.ItemSizeManager;
@@ -174,7 +172,6 @@ import net.dries007.tfc.common.recipes.CollapseRecipe;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.mixin.accessor.ChunkAccessAccessor;
 import net.dries007.tfc.mixin.accessor.RecipeManagerAccessor;
-import net.dries007.tfc.network.ChunkUnwatchPacket;
 import net.dries007.tfc.network.EffectExpirePacket;
 import net.dries007.tfc.network.PacketHandler;
 import net.dries007.tfc.network.PlayerDrinkPacket;
@@ -201,6 +198,7 @@ import net.dries007.tfc.util.climate.ClimateModel;
 import net.dries007.tfc.util.climate.ClimateRange;
 import net.dries007.tfc.util.climate.OverworldClimateModel;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.TagBitSetCache;
 import net.dries007.tfc.util.events.LoggingEvent;
 import net.dries007.tfc.util.events.SelectClimateModelEvent;
 import net.dries007.tfc.util.events.StartFireEvent;
@@ -209,11 +207,15 @@ import net.dries007.tfc.util.tracker.WorldTracker;
 import net.dries007.tfc.util.tracker.WorldTrackerCapability;
 import net.dries007.tfc.world.NoopClimateSampler;
 import net.dries007.tfc.world.biome.BiomeSourceExtension;
+import net.dries007.tfc.world.biome.RegionBiomeSource;
 import net.dries007.tfc.world.biome.TFCBiomes;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 import net.dries007.tfc.world.chunkdata.ChunkDataCache;
 import net.dries007.tfc.world.chunkdata.ChunkDataCapability;
 import net.dries007.tfc.world.chunkdata.ChunkGeneratorExtension;
+import net.dries007.tfc.world.feature.tree.TreeTemplate;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.RegionStore;
 import net.dries007.tfc.world.settings.RockLayerSettings;
 
 public final class ForgeEventHandler
@@ -244,6 +246,7 @@ public final class ForgeEventHandler
         bus.addListener(ForgeEventHandler::onNeighborUpdate);
         bus.addListener(ForgeEventHandler::onExplosionDetonate);
         bus.addListener(ForgeEventHandler::onWorldTick);
+        bus.addListener(ForgeEventHandler::onServerTick);
         bus.addListener(ForgeEventHandler::onWorldLoad);
         bus.addListener(ForgeEventHandler::onCreateNetherPortal);
         bus.addListener(ForgeEventHandler::onFluidPlaceBlock);
@@ -394,30 +397,7 @@ public final class ForgeEventHandler
 
     public static void attachItemCapabilities(AttachCapabilitiesEvent<ItemStack> event)
     {
-        ItemStack stack = event.getObject();
-        if (!stack.isEmpty())
-        {
-            // Attach mandatory capabilities
-            event.addCapability(ForgingCapability.KEY, new Forging(stack));
-
-            // Optional capabilities
-            HeatDefinition def = HeatCapability.get(stack);
-            if (def != null)
-            {
-                event.addCapability(HeatCapability.KEY, def.create());
-            }
-
-            FoodDefinition food = FoodCapability.get(stack);
-            if (food != null)
-            {
-                event.addCapability(FoodCapability.KEY, FoodDefinition.getHandler(food, stack));
-            }
-
-            if (stack.getItem() == Items.EGG)
-            {
-                event.addCapability(EggCapability.KEY, new EggHandler(stack));
-            }
-        }
+        ItemCapabilities.attach(event);
     }
 
     public static void attachEntityCapabilities(AttachCapabilitiesEvent<Entity> event)
@@ -435,7 +415,7 @@ public final class ForgeEventHandler
         ChunkData chunkData = ChunkData.get(event.getWorld(), pos);
         if (chunkData.getStatus() != ChunkData.Status.EMPTY)
         {
-            PacketHandler.send(PacketDistributor.PLAYER.with(event::getPlayer), chunkData.getUpdatePacket());
+            ChunkDataCache.SYNC_QUEUE.watch(event.getPlayer(), chunkData.getUpdateEntry());
         }
         else
         {
@@ -448,7 +428,7 @@ public final class ForgeEventHandler
     {
         // Send an update packet to the client when un-watching the chunk
         ChunkPos pos = event.getPos();
-        PacketHandler.send(PacketDistributor.PLAYER.with(event::getPlayer), new ChunkUnwatchPacket(pos));
+        ChunkDataCache.SYNC_QUEUE.unwatch(event.getPlayer(), pos);
         ChunkDataCache.WATCH_QUEUE.dequeueChunk(pos, event.getPlayer());
     }
 
@@ -598,6 +578,15 @@ public final class ForgeEventHandler
         }
     }
 
+    public static void onServerTick(TickEvent.ServerTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END)
+        {
+            // Send all chunk watches and unwatches from this tick, batched per player
+            ChunkDataCache.SYNC_QUEUE.flush();
+        }
+    }
+
     public static void onWorldLoad(WorldEvent.Load event)
     {
         if (event.getWorld() instanceof final ServerLevel level)
@@ -616,6 +605,14 @@ public final class ForgeEventHandler
                 LOGGER.info("Updating TFC Relevant Game Rules for level {}.", level.dimension().location());
             }
 
+            if (TFCConfig.COMMON.enableRegionStore.get() && level.getChunkSource().getGenerator().getBiomeSource() instanceof RegionBiomeSource source)
+            {
+                // Regions are stored per level, alongside other saved data, so restarts don't have to regenerate them
+                final RegionGenerator generator = source.getRegionGenerator();
+                final Path directory = DimensionType.getStorageFolder(level.dimension(), server.getWorldPath(LevelResource.ROOT)).resolve("data").resolve("tfc_regions");
+                generator.setStore(new RegionStore(directory, generator.seed()));
+            }
+
             Climate.onWorldLoad(level);
             if (level.dimension() == Level.OVERWORLD)
             {
@@ -1421,7 +1418,10 @@ public final class ForgeEventHandler
     {
         // First, reload all caches
         final RecipeManager manager = Helpers.getUnsafeRecipeManager();
+        TagBitSetCache.invalidateAll();
+        TreeTemplate.invalidateAll();
         IndirectHashCollection.reloadAllCaches(manager);
+        ItemCapabilities.reload();
 
         // Then apply post reload actions which may query the cache
         Support.updateMaximumSupportRange();
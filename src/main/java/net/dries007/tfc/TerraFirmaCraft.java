@@ -82,6 +82,7 @@ import net.dries007.tfc.world.carver.TFCCarvers;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 import net.dries007.tfc.world.feature.TFCFeatures;
 import net.dries007.tfc.world.placement.TFCPlacements;
+import net.dries007.tfc.world.pregen.Pregenerator;
 import net.dries007.tfc.world.settings.RockSettings;
 import net.dries007.tfc.world.stateprovider.TFCStateProviders;
 
@@ -140,6 +141,7 @@ public final class TerraFirmaCraft
         TFCConfig.init();
         PacketHandler.init();
         CalendarEventHandler.init();
+        Pregenerator.init();
         ForgeEventHandler.init();
 
         if (FMLEnvironment.dist == Dist.CLIENT)
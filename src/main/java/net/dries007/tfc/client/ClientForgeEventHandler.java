@@ -86,6 +86,7 @@ import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.tracker.WorldTrackerCapability;
 import net.dries007.tfc.world.chunkdata.ChunkData;
+import net.dries007.tfc.world.chunkdata.ChunkDataCache;
 
 import static net.minecraft.ChatFormatting.*;
 
@@ -157,6 +158,12 @@ public class ClientForgeEventHandler
                     list.add(GRAY + I18n.get("tfc.tooltip.f3_invalid_chunk_data"));
                 }
 
+                if (TFCConfig.CLIENT.enableDebug.get())
+                {
+                    final ChunkDataCache cache = ChunkDataCache.CLIENT;
+                    list.add(String.format("[Debug] Chunk Data Cache: Size = %d, Hits = %d, Misses = %d", cache.size(), cache.hits(), cache.misses()));
+                }
+
                 mc.level.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.addDebugTooltip(list));
             }
         }
@@ -10,6 +10,7 @@ import java.util.Objects;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.screens.Screen;
+import net.minecraft.client.renderer.LevelRenderer;
 import net.minecraft.client.searchtree.MutableSearchTree;
 import net.minecraft.client.searchtree.SearchRegistry;
 import net.minecraft.core.BlockPos;
@@ -84,6 +85,18 @@ public final class ClientHelpers
         Minecraft.getInstance().setScreen(new PetCommandScreen(mammal));
     }
 
+    /**
+     * Marks every section of a chunk, and its neighbours, to be re-meshed. Used when client chunk data arrives after the chunk may already have been meshed, as grass, foliage and water colors depend on it.
+     */
+    public static void markChunkForRerender(Level level, int chunkX, int chunkZ)
+    {
+        final LevelRenderer renderer = Minecraft.getInstance().levelRenderer;
+        for (int sectionY = level.getMinSection(); sectionY < level.getMaxSection(); sectionY++)
+        {
+            renderer.setSectionDirtyWithNeighbors(chunkX, sectionY, chunkZ);
+        }
+    }
+
     /**
      * Refreshes the search trees build in {@link Minecraft#createSearchTrees()}.
      * Allows for tag dependent values, both in the search results, and prevents these item stacks from decaying.
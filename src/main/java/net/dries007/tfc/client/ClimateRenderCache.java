@@ -12,6 +12,7 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 
+import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.tracker.WorldTracker;
@@ -56,7 +57,7 @@ public enum ClimateRenderCache
 
             // We can't invoke EnvironmentHelpers.isRainingOrSnowing() either, because it goes through isRaining() -> getRainLevel()
             float adjustedTargetRainLevel = 0f;
-            final WorldTracker tracker = level.getCapability(WorldTrackerCapability.CAPABILITY).resolve().orElse(null);
+            final WorldTracker tracker = Helpers.getCapability(level, WorldTrackerCapability.CAPABILITY);
             if (tracker != null)
             {
                 adjustedTargetRainLevel = tracker.isRaining(level, pos) ? targetRainLevel : 0f;
@@ -0,0 +1,111 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.client;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.BlockAndTintGetter;
+import net.minecraft.world.level.Level;
+
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.climate.Climate;
+import net.dries007.tfc.util.climate.ClimateModel;
+
+/**
+ * A snapshot of the climate within a single chunk section, used by {@link TFCColors} while the section is being rebuilt.
+ * <p>
+ * Every block in a section is tinted against the same calendar time, and climate model, which are captured once. Temperature and rainfall are then computed at most once per block, and stored, as tint colors are queried many times per block (once per quad).
+ * Chunk rebuilds run on worker threads, each rebuilding one section at a time, so the current snapshot is held per thread, and replaced when a different section, or a different rebuild of the same section, starts querying colors.
+ * The snapshot outlives the rebuild, as nothing clears it afterwards, so it only holds weak references to the level and region, in order to not keep either alive once they are discarded.
+ */
+final class ClimateSnapshot
+{
+    private static final ThreadLocal<ClimateSnapshot> CURRENT = new ThreadLocal<>();
+
+    /**
+     * @param region The region being rebuilt. Each rebuild creates a new region, so this identifies the rebuild.
+     */
+    static ClimateSnapshot get(Level level, BlockAndTintGetter region, BlockPos pos)
+    {
+        final long section = SectionPos.asLong(pos);
+        final ClimateSnapshot snapshot = CURRENT.get();
+        if (snapshot != null && snapshot.section == section && snapshot.region.get() == region && snapshot.level.get() == level)
+        {
+            return snapshot;
+        }
+        final ClimateSnapshot newSnapshot = new ClimateSnapshot(level, region, section);
+        CURRENT.set(newSnapshot);
+        return newSnapshot;
+    }
+
+    private final WeakReference<Level> level;
+    private final WeakReference<BlockAndTintGetter> region;
+    private final long section;
+
+    private final ClimateModel model;
+    private final long calendarTicks;
+    private final int daysInMonth;
+
+    private final float[] temperature;
+    private final float[] rainfall;
+    private final BlockPos.MutableBlockPos cursor;
+
+    private ClimateSnapshot(Level level, BlockAndTintGetter region, long section)
+    {
+        this.level = new WeakReference<>(level);
+        this.region = new WeakReference<>(region);
+        this.section = section;
+
+        this.model = Climate.model(level);
+        this.calendarTicks = Calendars.CLIENT.getCalendarTicks();
+        this.daysInMonth = Calendars.CLIENT.getCalendarDaysInMonth();
+
+        this.temperature = new float[16 * 16 * 16];
+        this.rainfall = new float[16 * 16 * 16];
+        this.cursor = new BlockPos.MutableBlockPos();
+
+        Arrays.fill(temperature, Float.NaN);
+    }
+
+    /**
+     * @param level The level this snapshot was created for. It is passed by the caller, as the snapshot only holds it weakly.
+     */
+    float getTemperature(Level level, BlockPos pos)
+    {
+        final int index = index(pos);
+        if (Float.isNaN(temperature[index]))
+        {
+            compute(level, pos, index);
+        }
+        return temperature[index];
+    }
+
+    float getRainfall(Level level, BlockPos pos)
+    {
+        final int index = index(pos);
+        if (Float.isNaN(temperature[index]))
+        {
+            compute(level, pos, index);
+        }
+        return rainfall[index];
+    }
+
+    private void compute(Level level, BlockPos pos, int index)
+    {
+        cursor.set(pos); // The caller's position may be mutable
+        rainfall[index] = model.getRainfall(level, cursor);
+        temperature[index] = model.getTemperature(level, cursor, calendarTicks, daysInMonth); // Written last, as it marks this index as computed
+    }
+
+    private int index(BlockPos pos)
+    {
+        return (pos.getX() & 15) | ((pos.getZ() & 15) << 4) | ((pos.getY() & 15) << 8);
+    }
+}
@@ -8,9 +8,11 @@ package net.dries007.tfc.client;
 
 import java.util.function.ToIntFunction;
 
+import net.minecraft.client.renderer.chunk.RenderChunkRegion;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
+import net.minecraft.world.level.BlockAndTintGetter;
 import net.minecraft.world.level.ColorResolver;
 import net.minecraft.world.level.CommonLevelAccessor;
 import net.minecraft.world.level.Level;
@@ -126,6 +128,14 @@ public final class TFCColors
     }
 
     public static int getSeasonalFoliageColor(@Nullable BlockPos pos, int tintIndex)
+    {
+        return getSeasonalFoliageColor(null, pos, tintIndex);
+    }
+
+    /**
+     * @param region The level the color is queried from. If this is a section being rebuilt, the color uses a {@link ClimateSnapshot} of that section.
+     */
+    public static int getSeasonalFoliageColor(@Nullable BlockAndTintGetter region, @Nullable BlockPos pos, int tintIndex)
     {
         if (pos != null && tintIndex == 0)
         {
@@ -133,24 +143,29 @@ public final class TFCColors
             {
                 case SPRING:
                 case SUMMER:
-                    return getClimateColor(FOLIAGE_COLORS_CACHE, pos);
+                    return getClimateColor(FOLIAGE_COLORS_CACHE, region, pos);
                 case FALL:
                     int index = Helpers.hash(91273491823412341L, pos);
                     return FOLIAGE_FALL_COLORS_CACHE[index & COLORMAP_MASK];
                 case WINTER:
-                    return getClimateColor(FOLIAGE_WINTER_COLORS_CACHE, pos);
+                    return getClimateColor(FOLIAGE_WINTER_COLORS_CACHE, region, pos);
             }
         }
         return -1;
     }
 
     public static int getFoliageColor(@Nullable BlockPos pos, int tintIndex)
+    {
+        return getFoliageColor(null, pos, tintIndex);
+    }
+
+    public static int getFoliageColor(@Nullable BlockAndTintGetter region, @Nullable BlockPos pos, int tintIndex)
     {
         if (tintIndex == 0)
         {
             if (pos != null)
             {
-                return getClimateColor(FOLIAGE_COLORS_CACHE, pos);
+                return getClimateColor(FOLIAGE_COLORS_CACHE, region, pos);
             }
             return getClimateColor(FOLIAGE_COLORS_CACHE, 10f, 250f); // Default values
         }
@@ -158,12 +173,17 @@ public final class TFCColors
     }
 
     public static int getGrassColor(@Nullable BlockPos pos, int tintIndex)
+    {
+        return getGrassColor(null, pos, tintIndex);
+    }
+
+    public static int getGrassColor(@Nullable BlockAndTintGetter region, @Nullable BlockPos pos, int tintIndex)
     {
         if (tintIndex == 0)
         {
             if (pos != null)
             {
-                return getClimateColor(GRASS_COLORS_CACHE, pos);
+                return getClimateColor(GRASS_COLORS_CACHE, region, pos);
             }
             return getClimateColor(GRASS_COLORS_CACHE, 10f, 250f); // Default values
         }
@@ -171,12 +191,17 @@ public final class TFCColors
     }
 
     public static int getTallGrassColor(@Nullable BlockPos pos, int tintIndex)
+    {
+        return getTallGrassColor(null, pos, tintIndex);
+    }
+
+    public static int getTallGrassColor(@Nullable BlockAndTintGetter region, @Nullable BlockPos pos, int tintIndex)
     {
         if (tintIndex == 0)
         {
             if (pos != null)
             {
-                return getClimateColor(TALL_GRASS_COLORS_CACHE, pos);
+                return getClimateColor(TALL_GRASS_COLORS_CACHE, region, pos);
             }
             return getClimateColor(TALL_GRASS_COLORS_CACHE, 10f, 250f); // Default values
         }
@@ -225,6 +250,24 @@ public final class TFCColors
         return 0;
     }
 
+    /**
+     * As {@link #getClimateColor(int[], BlockPos)}, but if queried from a section being rebuilt, samples the climate from a {@link ClimateSnapshot} of that section instead.
+     */
+    private static int getClimateColor(int[] colorCache, @Nullable BlockAndTintGetter region, BlockPos pos)
+    {
+        if (region instanceof RenderChunkRegion)
+        {
+            final Level level = ClientHelpers.getLevel();
+            if (level != null)
+            {
+                final ClimateSnapshot snapshot = ClimateSnapshot.get(level, region, pos);
+                return getClimateColor(colorCache, snapshot.getTemperature(level, pos), snapshot.getRainfall(level, pos));
+            }
+            return 0;
+        }
+        return getClimateColor(colorCache, pos);
+    }
+
     /**
      * Queries a color map based on temperature and rainfall parameters. Temperature is horizontal, left is high. Rainfall is vertical, up is high.
      */
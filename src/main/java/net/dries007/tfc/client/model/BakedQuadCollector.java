@@ -0,0 +1,115 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.client.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.core.Direction;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link VertexConsumer} which bakes the quads it is given, in {@link com.mojang.blaze3d.vertex.DefaultVertexFormat#BLOCK} format, rather than drawing them.
+ * This allows geometry written for block entity renderers, through {@link net.dries007.tfc.client.RenderHelpers}, to be reused by baked models which are drawn as part of the chunk mesh.
+ * <p>
+ * Color, light and overlay are ignored, as they are applied by the block renderer: quads are baked white, with shading enabled, and a side determined by their normal.
+ */
+final class BakedQuadCollector implements VertexConsumer
+{
+    private static final int VERTEX_SIZE = 8;
+
+    private final List<BakedQuad> quads = new ArrayList<>();
+    private final int[] vertices = new int[4 * VERTEX_SIZE];
+    private @Nullable TextureAtlasSprite sprite;
+    private int vertex;
+    private float normalX, normalY, normalZ;
+
+    /**
+     * Sets the sprite for all following quads.
+     */
+    BakedQuadCollector sprite(TextureAtlasSprite sprite)
+    {
+        this.sprite = sprite;
+        return this;
+    }
+
+    List<BakedQuad> quads()
+    {
+        assert vertex == 0 : "Incomplete quad";
+        return quads;
+    }
+
+    @Override
+    public VertexConsumer vertex(double x, double y, double z)
+    {
+        final int offset = vertex * VERTEX_SIZE;
+        vertices[offset] = Float.floatToRawIntBits((float) x);
+        vertices[offset + 1] = Float.floatToRawIntBits((float) y);
+        vertices[offset + 2] = Float.floatToRawIntBits((float) z);
+        vertices[offset + 3] = -1; // White
+        vertices[offset + 6] = 0; // Light, which is computed by the block renderer
+        return this;
+    }
+
+    @Override
+    public VertexConsumer color(int red, int green, int blue, int alpha)
+    {
+        return this;
+    }
+
+    @Override
+    public VertexConsumer uv(float u, float v)
+    {
+        final int offset = vertex * VERTEX_SIZE;
+        vertices[offset + 4] = Float.floatToRawIntBits(u);
+        vertices[offset + 5] = Float.floatToRawIntBits(v);
+        return this;
+    }
+
+    @Override
+    public VertexConsumer overlayCoords(int u, int v)
+    {
+        return this;
+    }
+
+    @Override
+    public VertexConsumer uv2(int u, int v)
+    {
+        return this;
+    }
+
+    @Override
+    public VertexConsumer normal(float x, float y, float z)
+    {
+        vertices[vertex * VERTEX_SIZE + 7] = (((byte) (x * 127)) & 0xFF) | ((((byte) (y * 127)) & 0xFF) << 8) | ((((byte) (z * 127)) & 0xFF) << 16);
+        normalX = x;
+        normalY = y;
+        normalZ = z;
+        return this;
+    }
+
+    @Override
+    public void endVertex()
+    {
+        if (++vertex == 4)
+        {
+            assert sprite != null : "No sprite set";
+            quads.add(new BakedQuad(vertices.clone(), -1, Direction.getNearest(normalX, normalY, normalZ), sprite, true));
+            vertex = 0;
+        }
+    }
+
+    @Override
+    public void defaultColor(int red, int green, int blue, int alpha) {}
+
+    @Override
+    public void unsetDefaultColor() {}
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.client.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonObject;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.block.model.ItemOverrides;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.client.resources.model.Material;
+import net.minecraft.client.resources.model.ModelBakery;
+import net.minecraft.client.resources.model.ModelState;
+import net.minecraft.client.resources.model.UnbakedModel;
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.client.model.IModelConfiguration;
+import net.minecraftforge.client.model.IModelLoader;
+import net.minecraftforge.client.model.data.IDynamicBakedModel;
+import net.minecraftforge.client.model.data.IModelData;
+import net.minecraftforge.client.model.geometry.IModelGeometry;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.datafixers.util.Pair;
+import net.dries007.tfc.client.RenderHelpers;
+import net.dries007.tfc.common.blockentities.SheetPileBlockEntity;
+import net.dries007.tfc.common.blocks.devices.SheetPileBlock;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.Metal;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The model for a sheet pile, which bakes the sheets into the chunk mesh, rather than drawing them every frame.
+ * Quads are cached by the metal on each face, as with {@link IngotPileModel}. Sheet piles which are not part of the client world, such as in Patchouli multiblocks, are still drawn by their block entity renderer.
+ */
+public class SheetPileModel implements IModelGeometry<SheetPileModel>
+{
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    /**
+     * Appends the quads for the sheet on each face of a pile.
+     */
+    private static void renderSheets(PoseStack poseStack, BakedQuadCollector collector, List<Metal> metals)
+    {
+        final Function<ResourceLocation, TextureAtlasSprite> textureAtlas = Minecraft.getInstance().getTextureAtlas(RenderHelpers.BLOCKS_ATLAS);
+        for (Direction direction : Helpers.DIRECTIONS)
+        {
+            final Metal metal = metals.get(direction.ordinal());
+            if (metal != null)
+            {
+                final TextureAtlasSprite sprite = textureAtlas.apply(metal.getTextureId());
+                RenderHelpers.renderTexturedCuboid(poseStack, collector.sprite(sprite), sprite, 0, 0, SheetPileBlock.getShapeForSingleFace(direction).bounds());
+            }
+        }
+    }
+
+    @Override
+    public BakedModel bake(IModelConfiguration owner, ModelBakery bakery, Function<Material, TextureAtlasSprite> spriteGetter, ModelState modelTransform, ItemOverrides overrides, ResourceLocation modelLocation)
+    {
+        return new Baked(spriteGetter.apply(owner.resolveTexture("particle")));
+    }
+
+    @Override
+    public Collection<Material> getTextures(IModelConfiguration owner, Function<ResourceLocation, UnbakedModel> modelGetter, Set<Pair<String, String>> missingTextureErrors)
+    {
+        return List.of(owner.resolveTexture("particle"));
+    }
+
+    public static class Loader implements IModelLoader<SheetPileModel>
+    {
+        @Override
+        public void onResourceManagerReload(ResourceManager resourceManager) {}
+
+        @Override
+        public SheetPileModel read(JsonDeserializationContext context, JsonObject json)
+        {
+            return new SheetPileModel();
+        }
+    }
+
+    private static final class Baked implements IDynamicBakedModel
+    {
+        private final TextureAtlasSprite particle;
+        private final Map<List<Metal>, List<BakedQuad>> cache;
+
+        Baked(TextureAtlasSprite particle)
+        {
+            this.particle = particle;
+            this.cache = new ConcurrentHashMap<>();
+        }
+
+        @Override
+        public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side, Random rand, IModelData extraData)
+        {
+            final List<Metal> metals = extraData.getData(SheetPileBlockEntity.METALS);
+            if (side != null || metals == null)
+            {
+                return List.of(); // Sheets are never culled, so all quads are returned as general quads
+            }
+
+            // Quads are baked on chunk rebuild threads, so the cache must be thread safe. It is bounded by simply clearing it once full.
+            final List<BakedQuad> cached = cache.get(metals);
+            if (cached != null)
+            {
+                return cached;
+            }
+            final BakedQuadCollector collector = new BakedQuadCollector();
+            renderSheets(new PoseStack(), collector, metals);
+            final List<BakedQuad> quads = List.copyOf(collector.quads());
+            if (cache.size() >= MAX_CACHE_SIZE)
+            {
+                cache.clear();
+            }
+            cache.put(metals, quads);
+            return quads;
+        }
+
+        @Override
+        public boolean useAmbientOcclusion()
+        {
+            return true;
+        }
+
+        @Override
+        public boolean isGui3d()
+        {
+            return false;
+        }
+
+        @Override
+        public boolean usesBlockLight()
+        {
+            return true;
+        }
+
+        @Override
+        public boolean isCustomRenderer()
+        {
+            return false;
+        }
+
+        @Override
+        public TextureAtlasSprite getParticleIcon()
+        {
+            return particle;
+        }
+
+        @Override
+        public ItemOverrides getOverrides()
+        {
+            return ItemOverrides.EMPTY;
+        }
+    }
+}
@@ -26,13 +26,16 @@ import net.dries007.tfc.common.blocks.devices.SheetPileBlock;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.Metal;
 
+/**
+ * Only draws sheet piles outside the client world, such as in Patchouli multiblocks. In world, sheets are baked into the chunk mesh by {@link net.dries007.tfc.client.model.SheetPileModel}.
+ */
 public class SheetPileBlockEntityRenderer implements BlockEntityRenderer<SheetPileBlockEntity>
 {
     @Override
     public void render(SheetPileBlockEntity pile, float partialTick, PoseStack poseStack, MultiBufferSource buffer, int packedLight, int packedOverlay)
     {
         final BlockState state = pile.getBlockState();
-        if (state.getBlock() instanceof DirectionPropertyBlock)
+        if (state.getBlock() instanceof DirectionPropertyBlock && pile.getLevel() != Minecraft.getInstance().level)
         {
             final Function<ResourceLocation, TextureAtlasSprite> textureAtlas = Minecraft.getInstance().getTextureAtlas(RenderHelpers.BLOCKS_ATLAS);
             final VertexConsumer builder = buffer.getBuffer(RenderType.cutout());
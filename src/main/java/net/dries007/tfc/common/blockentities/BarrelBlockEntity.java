@@ -8,7 +8,6 @@ package net.dries007.tfc.common.blockentities;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -22,7 +21,6 @@ import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
@@ -49,8 +47,9 @@ import net.dries007.tfc.common.capabilities.size.Weight;
 import net.dries007.tfc.common.container.BarrelContainer;
 import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.common.recipes.BarrelRecipe;
+import net.dries007.tfc.common.recipes.InstantBarrelRecipe;
+import net.dries007.tfc.common.recipes.InstantFluidBarrelRecipe;
 import net.dries007.tfc.common.recipes.SealedBarrelRecipe;
-import net.dries007.tfc.common.recipes.TFCRecipeTypes;
 import net.dries007.tfc.common.recipes.inventory.EmptyInventory;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
@@ -71,7 +70,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
 
     public static void serverTick(Level level, BlockPos pos, BlockState state, BarrelBlockEntity barrel)
     {
-        // Must run before checkForCalendarUpdate(), as this sets the current recipe.
+        // Must run before checkForCalendarUpdateAndSleep(), as this sets the current recipe.
         if (barrel.recipeName != null)
         {
             barrel.recipe = level.getRecipeManager().byKey(barrel.recipeName)
@@ -81,7 +80,10 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
         }
 
         barrel.checkForLastTickSync();
-        barrel.checkForCalendarUpdate();
+        if (!barrel.checkForCalendarUpdateAndSleep())
+        {
+            return; // Asleep, see the end of this method
+        }
 
         if (level.getGameTime() % 5 == 0)
         {
@@ -128,18 +130,20 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
             barrel.needsInstantRecipeUpdate = false;
             if (barrel.inventory.excess.isEmpty()) // Excess must be empty for instant recipes to apply
             {
-                final RecipeManager recipeManager = level.getRecipeManager();
-                Optional.<BarrelRecipe>empty() // For type erasure
-                    .or(() -> recipeManager.getRecipeFor(TFCRecipeTypes.BARREL_INSTANT.get(), barrel.inventory, level))
-                    .or(() -> recipeManager.getRecipeFor(TFCRecipeTypes.BARREL_INSTANT_FLUID.get(), barrel.inventory, level))
-                    .ifPresent(instantRecipe -> {
-                        instantRecipe.assembleOutputs(barrel.inventory);
-                        if (barrel.soundCooldownTicks == 0)
-                        {
-                            Helpers.playSound(level, barrel.getBlockPos(), instantRecipe.getCompleteSound());
-                            barrel.soundCooldownTicks = 5;
-                        }
-                    });
+                BarrelRecipe instantRecipe = InstantBarrelRecipe.getRecipe(barrel.inventory);
+                if (instantRecipe == null)
+                {
+                    instantRecipe = InstantFluidBarrelRecipe.getRecipe(barrel.inventory);
+                }
+                if (instantRecipe != null)
+                {
+                    instantRecipe.assembleOutputs(barrel.inventory);
+                    if (barrel.soundCooldownTicks == 0)
+                    {
+                        Helpers.playSound(level, barrel.getBlockPos(), instantRecipe.getCompleteSound());
+                        barrel.soundCooldownTicks = 5;
+                    }
+                }
                 barrel.markForSync();
             }
         }
@@ -161,6 +165,14 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
             barrel.inventory.fill(new FluidStack(Fluids.WATER, 1), IFluidHandler.FluidAction.EXECUTE);
             barrel.markForSync();
         }
+
+        if (sealed && barrel.inventory.excess.isEmpty() && !barrel.needsInstantRecipeUpdate && barrel.soundCooldownTicks == 0)
+        {
+            // A sealed barrel has nothing to do until the current recipe completes, so sleep until then. With no recipe, or an infinite one, sleep until woken.
+            // Any change to the inventory, or the seal, wakes the barrel. We wake on the last tick before the recipe completes, so the completion itself happens above, in a regular tick, and plays the completion sound.
+            final SealedBarrelRecipe currentRecipe = barrel.recipe;
+            barrel.sleepUntil(currentRecipe != null && !currentRecipe.isInfinite() ? barrel.recipeTick + currentRecipe.getDuration() : Long.MAX_VALUE);
+        }
     }
 
 
@@ -176,6 +188,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
     @Nullable private BlockPos pourPos = null;
 
     private boolean needsInstantRecipeUpdate; // If the instant recipe needs to be checked again
+    private long sleepUntilTick = Long.MIN_VALUE; // Not serialized, as a loaded barrel always starts awake
 
     public BarrelBlockEntity(BlockPos pos, BlockState state)
     {
@@ -220,6 +233,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
     {
         super.setAndUpdateSlots(slot);
         needsInstantRecipeUpdate = true;
+        wake();
         updateRecipe();
     }
 
@@ -227,6 +241,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
     public void fluidTankChanged()
     {
         needsInstantRecipeUpdate = true;
+        wake();
         updateRecipe();
         setChanged();
     }
@@ -350,6 +365,18 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
         lastUpdateTick = tick;
     }
 
+    @Override
+    public long getSleepUntilTick()
+    {
+        return sleepUntilTick;
+    }
+
+    @Override
+    public void setSleepUntilTick(long tick)
+    {
+        sleepUntilTick = tick;
+    }
+
     @Override
     public void ejectInventory()
     {
@@ -427,6 +454,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
             }
         }
 
+        wake();
         sealedTick = Calendars.get(level).getTicks();
         updateRecipe();
         if (recipe != null)
@@ -441,6 +469,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
     public void onUnseal()
     {
         assert level != null;
+        wake();
         sealedTick = recipeTick = 0;
         if (recipe != null)
         {
@@ -465,7 +494,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
         if (inventory.excess.isEmpty())
         {
             // Will only work on a recipe as long as the 'excess' is empty
-            recipe = level.getRecipeManager().getRecipeFor(TFCRecipeTypes.BARREL_SEALED.get(), inventory, level).orElse(null);
+            recipe = SealedBarrelRecipe.getRecipe(inventory);
             if (recipe != null && oldRecipe != recipe && (oldRecipe == null || !oldRecipe.getId().equals(recipe.getId())))
             {
                 // The recipe has changed to a new one, so update the recipe ticks
@@ -21,7 +21,7 @@ public class BerryBushBlockEntity extends TFCBlockEntity implements ICalendarTic
 {
     public static void serverTick(Level level, BlockPos pos, BlockState state, BerryBushBlockEntity bush)
     {
-        bush.checkForCalendarUpdate();
+        bush.checkForCalendarUpdateAndSleep();
     }
 
     private long lastTick; // The last tick this bush was ticked via the block entity's serverTick() method. A delta of > 1 is used to detect time skips
@@ -95,5 +95,6 @@ public class BerryBushBlockEntity extends TFCBlockEntity implements ICalendarTic
     public void setLastBushTick(long ticks)
     {
         lastUpdateTick = ticks;
+        markDirty();
     }
 }
@@ -52,7 +52,7 @@ public class BloomeryBlockEntity extends TickableInventoryBlockEntity<BloomeryBl
     public static void serverTick(Level level, BlockPos pos, BlockState state, BloomeryBlockEntity bloomery)
     {
         bloomery.checkForLastTickSync();
-        bloomery.checkForCalendarUpdate();
+        bloomery.checkForCalendarUpdateAndSleep();
 
         if (level.getGameTime() % 20 == 0)
         {
@@ -203,6 +203,7 @@ public class BloomeryBlockEntity extends TickableInventoryBlockEntity<BloomeryBl
         if (Helpers.isBlock(level.getBlockState(getInternalBlockPos()), TFCBlocks.MOLTEN.get()) && cachedRecipe != null && cachedRecipe.matches(inventory, level))
         {
             litTick = Calendars.get(level).getTicks();
+            markForSync();
             state = state.setValue(BloomeryBlock.LIT, true).setValue(BloomeryBlock.OPEN, false);
             level.setBlockAndUpdate(worldPosition, state);
             return true;
@@ -415,6 +416,7 @@ public class BloomeryBlockEntity extends TickableInventoryBlockEntity<BloomeryBl
         inputStacks.clear();
         catalystStacks.clear();
         cachedRecipe = null;
+        markForSync();
         level.setBlockAndUpdate(worldPosition, level.getBlockState(worldPosition).setValue(BloomeryBlock.LIT, false));
         destroyMolten();
     }
@@ -21,14 +21,14 @@ public class CropBlockEntity extends TFCBlockEntity implements ICalendarTickable
 {
     public static void serverTick(Level level, BlockPos pos, BlockState state, CropBlockEntity crop)
     {
-        crop.checkForCalendarUpdate();
+        crop.checkForCalendarUpdateAndSleep();
     }
 
     public static void serverTickBottomPartOnly(Level level, BlockPos pos, BlockState state, CropBlockEntity crop)
     {
         if (state.getValue(DoubleCropBlock.PART) == DoubleCropBlock.Part.BOTTOM)
         {
-            crop.checkForCalendarUpdate();
+            crop.checkForCalendarUpdateAndSleep();
         }
     }
 
@@ -19,12 +19,21 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.client.model.data.IModelData;
+import net.minecraftforge.client.model.data.ModelDataMap;
+import net.minecraftforge.client.model.data.ModelProperty;
 
+import net.dries007.tfc.common.blocks.devices.IngotPileBlock;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.Metal;
 
 public class IngotPileBlockEntity extends TFCBlockEntity
 {
+    /**
+     * The metal of each ingot in the pile, in order, used by {@link net.dries007.tfc.client.model.IngotPileModel}.
+     */
+    public static final ModelProperty<List<Metal>> METALS = new ModelProperty<>();
+
     private final List<ItemStack> stacks;
     private final List<Metal> cachedMetals;
 
@@ -95,6 +104,18 @@ public class IngotPileBlockEntity extends TFCBlockEntity
         return metal;
     }
 
+    @Override
+    public IModelData getModelData()
+    {
+        final BlockState state = getBlockState();
+        final Metal[] metals = new Metal[state.hasProperty(IngotPileBlock.COUNT) ? state.getValue(IngotPileBlock.COUNT) : 0]; // The count is authoritative on how many ingots should be rendered
+        for (int i = 0; i < metals.length; i++)
+        {
+            metals[i] = getOrCacheMetal(i);
+        }
+        return new ModelDataMap.Builder().withInitial(METALS, List.of(metals)).build();
+    }
+
     @Override
     protected void saveAdditional(CompoundTag tag)
     {
@@ -112,6 +133,7 @@ public class IngotPileBlockEntity extends TFCBlockEntity
             cachedMetals.add(null);
         }
         super.loadAdditional(tag);
+        markForModelUpdate();
     }
 
     public void fillTooltip(Consumer<Component> tooltip)
@@ -7,6 +7,7 @@
 package net.dries007.tfc.common.blockentities;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Consumer;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
@@ -21,7 +22,11 @@ import net.minecraft.world.level.block.Rotation;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BooleanProperty;
 import net.minecraft.world.level.block.state.properties.DirectionProperty;
+import net.minecraftforge.client.model.data.IModelData;
+import net.minecraftforge.client.model.data.ModelDataMap;
+import net.minecraftforge.client.model.data.ModelProperty;
 
+import net.dries007.tfc.common.blocks.DirectionPropertyBlock;
 import net.dries007.tfc.common.blocks.devices.SheetPileBlock;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.Metal;
@@ -31,6 +36,11 @@ public class SheetPileBlockEntity extends TFCBlockEntity
     private final ItemStack[] stacks;
     private final Metal[] cachedMetals;
 
+    /**
+     * The metal of the sheet on each face, indexed by {@link Direction#ordinal()}, or {@code null} if there is no sheet on that face. Used by {@link net.dries007.tfc.client.model.SheetPileModel}.
+     */
+    public static final ModelProperty<List<Metal>> METALS = new ModelProperty<>();
+
     private static final DirectionProperty FACING = SheetPileBlock.FACING;
     private static final BooleanProperty MIRROR = SheetPileBlock.MIRROR;
 
@@ -126,6 +136,24 @@ public class SheetPileBlockEntity extends TFCBlockEntity
         Arrays.fill(cachedMetals, metal);
     }
 
+    @Override
+    public IModelData getModelData()
+    {
+        final BlockState state = getBlockState();
+        final Metal[] metals = new Metal[6];
+        if (state.getBlock() instanceof DirectionPropertyBlock)
+        {
+            for (Direction direction : Helpers.DIRECTIONS)
+            {
+                if (state.getValue(DirectionPropertyBlock.getProperty(direction))) // The properties are authoritative on which sides should be rendered
+                {
+                    metals[direction.ordinal()] = getOrCacheMetal(direction);
+                }
+            }
+        }
+        return new ModelDataMap.Builder().withInitial(METALS, Arrays.asList(metals)).build();
+    }
+
     @Override
     protected void saveAdditional(CompoundTag tag)
     {
@@ -139,6 +167,7 @@ public class SheetPileBlockEntity extends TFCBlockEntity
         Helpers.readItemStacksFromNbt(stacks, tag.getList("stacks", Tag.TAG_COMPOUND));
         Arrays.fill(cachedMetals, null); // Invalidate metal cache
         super.loadAdditional(tag);
+        markForModelUpdate();
     }
 
     public void fillTooltip(Consumer<Component> tooltip)
@@ -12,6 +12,7 @@ import net.minecraft.network.Connection;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
@@ -119,6 +120,19 @@ public abstract class TFCBlockEntity extends BlockEntity
         }
     }
 
+    /**
+     * For block entities whose contents are drawn by a baked model as part of the chunk mesh, rather than by a block entity renderer.
+     * On client, refreshes the model data and marks the block to be re-rendered, as the block state alone may not have changed. Call after loading new contents.
+     */
+    protected void markForModelUpdate()
+    {
+        if (level != null && level.isClientSide)
+        {
+            requestModelDataUpdate();
+            level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), Block.UPDATE_CLIENTS);
+        }
+    }
+
     public void sendVanillaUpdatePacket()
     {
         final ClientboundBlockEntityDataPacket packet = getUpdatePacket();
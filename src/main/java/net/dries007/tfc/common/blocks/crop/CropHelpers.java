@@ -16,6 +16,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.client.TFCSounds;
 import net.dries007.tfc.common.blockentities.CropBlockEntity;
@@ -56,48 +57,68 @@ public final class CropHelpers
      * @return {@code true} if the crop survived.
      */
     public static boolean growthTick(Level level, BlockPos pos, BlockState state, CropBlockEntity crop)
+    {
+        return growthTick(level, pos, state, crop, level.getRandom());
+    }
+
+    /**
+     * Catches up on all growth since the crop was last updated, in steps of {@link #UPDATE_INTERVAL}.
+     * <p>
+     * The crop's surroundings cannot change during a catch-up, so everything that depends only on them is computed once, rather than per step. Most notably this includes hydration, which scans nearby blocks for water. Adjacent steps also share the temperature at their common boundary.
+     * This is exactly equivalent to calling {@link #growthTickStep(Level, BlockPos, BlockState, Random, long, long, CropBlockEntity)} for each step.
+     * Note that the number of steps is bounded regardless of how much time has passed: every step allocates growth to either growth or expiry, and the crop dies once expiry reaches its limit.
+     *
+     * @return {@code true} if the crop survived.
+     */
+    public static boolean growthTick(Level level, BlockPos pos, BlockState state, CropBlockEntity crop, Random random)
     {
         final long firstTick = crop.getLastGrowthTick(), thisTick = Calendars.SERVER.getTicks();
-        long tick = firstTick + CropHelpers.UPDATE_INTERVAL, lastTick = firstTick;
-        for (; tick < thisTick; tick += CropHelpers.UPDATE_INTERVAL)
+        if (firstTick >= thisTick)
         {
-            if (!CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, tick, crop))
+            return true;
+        }
+
+        final Conditions conditions = new Conditions(level, pos, state);
+        float startTemperature = conditions.temperature(firstTick);
+        for (long fromTick = firstTick; fromTick < thisTick; )
+        {
+            final long toTick = Math.min(fromTick + UPDATE_INTERVAL, thisTick);
+            final float endTemperature = conditions.temperature(toTick);
+            if (!growthTickStep(conditions, random, toTick - fromTick, startTemperature, endTemperature, crop))
             {
                 return false;
             }
-            lastTick = tick;
+            fromTick = toTick;
+            startTemperature = endTemperature;
         }
-        return lastTick >= thisTick || CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, thisTick, crop);
+        return true;
     }
 
     public static boolean growthTickStep(Level level, BlockPos pos, BlockState state, Random random, long fromTick, long toTick, CropBlockEntity crop)
     {
-        // Calculate invariants
-        final ICalendar calendar = Calendars.get(level);
-        final BlockPos sourcePos = pos.below();
-        final int hydration = FarmlandBlock.getHydration(level, sourcePos);
-        final float startTemperature = Climate.getTemperature(level, pos, calendar, Calendars.SERVER.ticksToCalendarTicks(fromTick));
-        final float endTemperature = Climate.getTemperature(level, pos, calendar, Calendars.SERVER.ticksToCalendarTicks(toTick));
-        final long tickDelta = toTick - fromTick;
-
-        final ICropBlock cropBlock = (ICropBlock) state.getBlock();
-        final ClimateRange range = cropBlock.getClimateRange();
-        final boolean growing = checkClimate(range, hydration, startTemperature, endTemperature, false);
-        final boolean healthy = growing || checkClimate(range, hydration, startTemperature, endTemperature, true);
+        final Conditions conditions = new Conditions(level, pos, state);
+        return growthTickStep(conditions, random, toTick - fromTick, conditions.temperature(fromTick), conditions.temperature(toTick), crop);
+    }
+
+    private static boolean growthTickStep(Conditions conditions, Random random, long tickDelta, float startTemperature, float endTemperature, CropBlockEntity crop)
+    {
+        final ICropBlock cropBlock = conditions.cropBlock;
+        final boolean growing = checkClimate(conditions.range, conditions.hydration, startTemperature, endTemperature, false);
+        final boolean healthy = growing || checkClimate(conditions.range, conditions.hydration, startTemperature, endTemperature, true);
 
         // Nutrients are consumed first, since they are independent of growth or health.
         // As long as the crop exists it consumes nutrients.
 
         final FarmlandBlockEntity.NutrientType primaryNutrient = cropBlock.getPrimaryNutrient();
         float nutrientsAvailable = 0, nutrientsRequired = NUTRIENT_CONSUMPTION * tickDelta, nutrientsConsumed = 0;
-        if (level.getBlockEntity(sourcePos) instanceof IFarmland farmland)
+        if (conditions.farmland != null)
         {
-            nutrientsAvailable = farmland.getNutrient(primaryNutrient);
-            nutrientsConsumed = farmland.consumeNutrientAndResupplyOthers(primaryNutrient, nutrientsRequired);
+            nutrientsAvailable = conditions.farmland.getNutrient(primaryNutrient);
+            nutrientsConsumed = conditions.farmland.consumeNutrientAndResupplyOthers(primaryNutrient, nutrientsRequired);
         }
 
-        final float growthModifier = TFCConfig.SERVER.cropGrowthModifier.get().floatValue(); // Higher = Slower growth
-        final float expiryModifier = TFCConfig.SERVER.cropExpiryModifier.get().floatValue(); // Higher = Slower expiry
+        final float growthModifier = conditions.growthModifier; // Higher = Slower growth
+        final float expiryModifier = conditions.expiryModifier; // Higher = Slower expiry
         final float localExpiryLimit = EXPIRY_LIMIT * expiryModifier * (1f / growthModifier);
 
         // Total growth is based on the ticks and the nutrients consumed. It is then allocated to actual growth or expiry based on other factors.
@@ -109,7 +130,7 @@ public final class CropHelpers
         // Re-scale expiry to within our imaginary limits
         expiry *= localExpiryLimit / EXPIRY_LIMIT;
 
-        final float growthLimit = cropBlock.getGrowthLimit(level, pos, state);
+        final float growthLimit = conditions.growthLimit;
         if (remainingGrowthDelta > 0 && growing && growth < growthLimit)
         {
             // Allocate to growth
@@ -144,7 +165,7 @@ public final class CropHelpers
         if (expiry >= localExpiryLimit || !healthy)
         {
             // Lenient here - instead of assuming it expired at the start of the duration, we assume at the end. Including growth during this period.
-            cropBlock.die(level, pos, state, growth >= 1);
+            cropBlock.die(conditions.level, conditions.pos, conditions.state, growth >= 1);
             return false;
         }
 
@@ -154,7 +175,7 @@ public final class CropHelpers
         crop.setGrowth(growth);
         crop.setYield(actualYield);
         crop.setExpiry(expiry);
-        crop.setLastGrowthTick(calendar.getTicks());
+        crop.setLastGrowthTick(conditions.calendar.getTicks());
 
         return true;
     }
@@ -226,4 +247,43 @@ public final class CropHelpers
         }
         return prevValue;
     }
+
+    /**
+     * Everything a growth step depends on, other than time and temperature, which is invariant over a single catch-up.
+     */
+    private static final class Conditions
+    {
+        final Level level;
+        final BlockPos pos;
+        final BlockState state;
+        final ICalendar calendar;
+        final ICropBlock cropBlock;
+        final ClimateRange range;
+        final int hydration;
+        final float growthLimit;
+        final float growthModifier, expiryModifier;
+        @Nullable final IFarmland farmland;
+
+        Conditions(Level level, BlockPos pos, BlockState state)
+        {
+            final BlockPos sourcePos = pos.below();
+
+            this.level = level;
+            this.pos = pos;
+            this.state = state;
+            this.calendar = Calendars.get(level);
+            this.cropBlock = (ICropBlock) state.getBlock();
+            this.range = cropBlock.getClimateRange();
+            this.hydration = FarmlandBlock.getHydration(level, sourcePos);
+            this.growthLimit = cropBlock.getGrowthLimit(level, pos, state);
+            this.growthModifier = TFCConfig.SERVER.cropGrowthModifier.get().floatValue();
+            this.expiryModifier = TFCConfig.SERVER.cropExpiryModifier.get().floatValue();
+            this.farmland = level.getBlockEntity(sourcePos) instanceof IFarmland farmland ? farmland : null;
+        }
+
+        float temperature(long tick)
+        {
+            return Climate.getTemperature(level, pos, calendar, Calendars.SERVER.ticksToCalendarTicks(tick));
+        }
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.capabilities;
+
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
+
+import it.unimi.dsi.fastutil.objects.Reference2ByteMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
+import net.dries007.tfc.common.capabilities.egg.EggCapability;
+import net.dries007.tfc.common.capabilities.egg.EggHandler;
+import net.dries007.tfc.common.capabilities.food.FoodCapability;
+import net.dries007.tfc.common.capabilities.food.FoodDefinition;
+import net.dries007.tfc.common.capabilities.forge.Forging;
+import net.dries007.tfc.common.capabilities.forge.ForgingCapability;
+import net.dries007.tfc.common.capabilities.heat.HeatCapability;
+import net.dries007.tfc.common.capabilities.heat.HeatDefinition;
+
+/**
+ * Attaches TFC's item stack capabilities. This is called for every item stack that is created or copied, so it is kept as cheap as possible.
+ * <p>
+ * Each item has a precomputed plan of which optional capabilities it could possibly have, which is rebuilt after every reload. Items which can never have any (the vast majority) skip every definition lookup.
+ */
+public final class ItemCapabilities
+{
+    private static final byte HEAT = 0b1;
+    private static final byte FOOD = 0b10;
+    private static final byte EGG = 0b100;
+
+    private static volatile Reference2ByteMap<Item> plans = new Reference2ByteOpenHashMap<>();
+
+    /**
+     * Rebuilds the plan for every item. Must be called after {@link HeatCapability#CACHE} and {@link FoodCapability#CACHE} are reloaded.
+     */
+    public static void reload()
+    {
+        final Reference2ByteMap<Item> newPlans = new Reference2ByteOpenHashMap<>();
+        HeatCapability.MANAGER.getValues().forEach(def -> def.getValidItems().forEach(item -> add(newPlans, item, HEAT)));
+        FoodCapability.MANAGER.getValues().forEach(def -> def.getValidItems().forEach(item -> add(newPlans, item, FOOD)));
+        add(newPlans, Items.EGG, EGG);
+        plans = newPlans;
+    }
+
+    public static void attach(AttachCapabilitiesEvent<ItemStack> event)
+    {
+        final ItemStack stack = event.getObject();
+        if (!stack.isEmpty())
+        {
+            // Attach mandatory capabilities. This does no work until it is first queried
+            event.addCapability(ForgingCapability.KEY, new Forging(stack));
+
+            // Optional capabilities
+            final byte plan = plans.getByte(stack.getItem());
+            if (plan == 0)
+            {
+                return;
+            }
+
+            if ((plan & HEAT) != 0)
+            {
+                final HeatDefinition def = HeatCapability.get(stack);
+                if (def != null)
+                {
+                    event.addCapability(HeatCapability.KEY, def.create());
+                }
+            }
+
+            if ((plan & FOOD) != 0)
+            {
+                final FoodDefinition food = FoodCapability.get(stack);
+                if (food != null)
+                {
+                    event.addCapability(FoodCapability.KEY, FoodDefinition.getHandler(food, stack));
+                }
+            }
+
+            if ((plan & EGG) != 0)
+            {
+                event.addCapability(EggCapability.KEY, new EggHandler(stack));
+            }
+        }
+    }
+
+    private static void add(Reference2ByteMap<Item> plans, Item item, byte flag)
+    {
+        plans.put(item, (byte) (plans.getByte(item) | flag));
+    }
+}
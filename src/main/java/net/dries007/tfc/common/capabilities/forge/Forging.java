@@ -29,7 +29,9 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * A capability instance which is attached to all items, in order to store (cached) and manipulate anvil working/forging data.
- * This instance is lazily initialized upon first getCapability() query, and saves all data directly to the stack tag.
+ * This instance is lazily initialized upon first getCapability() query, and saves all data directly to the stack tag. Until then, it holds only a reference to the stack, as one is created for every item stack.
+ * <p>
+ * Stacks are queried off the server thread (for instance, by tooltips and rendering), so both the lazy initialization, and the lazy resolution of a saved recipe, are synchronized. All other modification is expected to happen on the thread which owns the stack.
  */
 public final class Forging implements ICapabilityProvider
 {
@@ -45,10 +47,10 @@ public final class Forging implements ICapabilityProvider
         });
     }
 
-    private final LazyOptional<Forging> capability;
     private final ItemStack stack;
 
-    private final ForgeSteps steps;
+    @Nullable private volatile LazyOptional<Forging> capability; // Published only once steps and saved data are initialized
+    private ForgeSteps steps; // Initialized along with the capability
 
     private int work, target;
     @Nullable private AnvilRecipe recipe;
@@ -56,14 +58,7 @@ public final class Forging implements ICapabilityProvider
 
     public Forging(ItemStack stack)
     {
-        this.capability = LazyOptional.of(() -> this);
         this.stack = stack;
-
-        this.work = 0;
-        this.recipe = null;
-        this.steps = new ForgeSteps();
-
-        load();
     }
 
     /**
@@ -87,7 +82,7 @@ public final class Forging implements ICapabilityProvider
      * This requires a level as it possibly makes a recipe query, in the first load from saved data.
      */
     @Nullable
-    public AnvilRecipe getRecipe(Level level)
+    public synchronized AnvilRecipe getRecipe(Level level)
     {
         if (uninitializedRecipe != null)
         {
@@ -109,7 +104,7 @@ public final class Forging implements ICapabilityProvider
     /**
      * Sets the current recipe and work target directly.
      */
-    public void setRecipe(@Nullable AnvilRecipe recipe, int target)
+    public synchronized void setRecipe(@Nullable AnvilRecipe recipe, int target)
     {
         this.recipe = recipe;
         this.target = target;
@@ -152,7 +147,7 @@ public final class Forging implements ICapabilityProvider
      * This will clear the current recipe, if the item has not been additionally worked.
      * Used when removing an item from an anvil, as it makes the item stackable again - despite the fact we <strong>must</strong> persist the recipe on the item stack, even if it has not been worked.
      */
-    public void clearRecipeIfNotWorked()
+    public synchronized void clearRecipeIfNotWorked()
     {
         if (!steps.any())
         {
@@ -167,11 +162,23 @@ public final class Forging implements ICapabilityProvider
     {
         if (cap == ForgingCapability.CAPABILITY)
         {
-            return capability.cast();
+            final LazyOptional<Forging> capability = this.capability;
+            return (capability != null ? capability : initialize()).cast();
         }
         return LazyOptional.empty();
     }
 
+    private synchronized LazyOptional<Forging> initialize()
+    {
+        if (capability == null)
+        {
+            steps = new ForgeSteps();
+            load();
+            capability = LazyOptional.of(() -> this);
+        }
+        return capability;
+    }
+
     private void load()
     {
         final CompoundTag tag = stack.getTagElement(KEY);
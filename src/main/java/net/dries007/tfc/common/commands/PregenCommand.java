@@ -0,0 +1,77 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.commands;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.world.pregen.Pregenerator;
+
+public final class PregenCommand
+{
+    private static final String STARTED = "tfc.commands.pregen.started";
+    private static final String ALREADY_RUNNING = "tfc.commands.pregen.already_running";
+    private static final String STOPPED = "tfc.commands.pregen.stopped";
+    private static final String NOT_RUNNING = "tfc.commands.pregen.not_running";
+    private static final String STATUS = "tfc.commands.pregen.status";
+
+    public static LiteralArgumentBuilder<CommandSourceStack> create()
+    {
+        return Commands.literal("pregen")
+            .requires(source -> source.hasPermission(2))
+            .then(Commands.argument("radius", IntegerArgumentType.integer(1, 10_000))
+                .executes(cmd -> start(cmd.getSource(), IntegerArgumentType.getInteger(cmd, "radius")))
+            )
+            .then(Commands.literal("stop")
+                .executes(cmd -> stop(cmd.getSource()))
+            )
+            .then(Commands.literal("status")
+                .executes(cmd -> status(cmd.getSource()))
+            );
+    }
+
+    private static int start(CommandSourceStack source, int radius)
+    {
+        final ChunkPos center = new ChunkPos(new BlockPos(source.getPosition()));
+        if (!Pregenerator.start(source.getLevel(), center, radius))
+        {
+            source.sendFailure(Helpers.translatable(ALREADY_RUNNING));
+            return 0;
+        }
+        source.sendSuccess(Helpers.translatable(STARTED, (long) (2 * radius + 1) * (2 * radius + 1), center.x, center.z), true);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int stop(CommandSourceStack source)
+    {
+        if (!Pregenerator.stop(source.getServer()))
+        {
+            source.sendFailure(Helpers.translatable(NOT_RUNNING));
+            return 0;
+        }
+        source.sendSuccess(Helpers.translatable(STOPPED), true);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int status(CommandSourceStack source)
+    {
+        final Pregenerator task = Pregenerator.active();
+        if (task == null)
+        {
+            source.sendFailure(Helpers.translatable(NOT_RUNNING));
+            return 0;
+        }
+        source.sendSuccess(Helpers.translatable(STATUS, task.generated(), task.total(), task.failed(), "%.1f".formatted(task.chunksPerSecond()), task.etaSeconds()), false);
+        return Command.SINGLE_SUCCESS;
+    }
+}
@@ -48,6 +48,7 @@ public final class TFCCommands
             .then(LocateCommand.create())
             .then(PropickCommand.create())
             .then(ForgeCommand.create())
+            .then(PregenCommand.create())
         );
 
         // For command modifications / replacements, we register directly
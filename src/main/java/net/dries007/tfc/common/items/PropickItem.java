@@ -9,10 +9,12 @@ package net.dries007.tfc.common.items;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Predicate;
 import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.TranslatableComponent;
 import net.minecraft.server.level.ServerPlayer;
@@ -30,6 +32,8 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.network.PacketDistributor;
 
@@ -48,15 +52,68 @@ public class PropickItem extends ToolItem
 
     private static final Random RANDOM = new Random();
 
+    /**
+     * Counts all blocks in the tag, within a cube of the given radius.
+     * <p>
+     * Rather than querying every position, this works per chunk section. The section palettes are maintained by vanilla on every block change, so a section whose palette contains no matching state is skipped entirely, which is the vast majority of them.
+     * Sections which are entirely within the area are counted directly from the palette, and only sections which partially overlap the area are scanned, only where they overlap.
+     */
     public static Object2IntMap<BlockState> scanAreaFor(Level level, BlockPos center, int radius, TagKey<Block> tag)
     {
         final Object2IntMap<BlockState> results = new Object2IntOpenHashMap<>();
-        for (BlockPos cursor : BlockPos.betweenClosed(center.getX() - radius, center.getY() - radius, center.getZ() - radius, center.getX() + radius, center.getY() + radius, center.getZ() + radius))
+        final Predicate<BlockState> predicate = state -> Helpers.isBlock(state, tag);
+
+        final int minX = center.getX() - radius, maxX = center.getX() + radius;
+        final int minY = center.getY() - radius, maxY = center.getY() + radius;
+        final int minZ = center.getZ() - radius, maxZ = center.getZ() + radius;
+
+        final int minSectionY = Math.max(SectionPos.blockToSectionCoord(minY), level.getMinSection());
+        final int maxSectionY = Math.min(SectionPos.blockToSectionCoord(maxY), level.getMaxSection() - 1);
+
+        for (int chunkX = SectionPos.blockToSectionCoord(minX); chunkX <= SectionPos.blockToSectionCoord(maxX); chunkX++)
         {
-            final BlockState state = level.getBlockState(cursor);
-            if (Helpers.isBlock(state, tag))
+            for (int chunkZ = SectionPos.blockToSectionCoord(minZ); chunkZ <= SectionPos.blockToSectionCoord(maxZ); chunkZ++)
             {
-                results.mergeInt(state, 1, Integer::sum);
+                final ChunkAccess chunk = level.getChunk(chunkX, chunkZ);
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++)
+                {
+                    final LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+                    if (section.hasOnlyAir() || !section.maybeHas(predicate))
+                    {
+                        continue;
+                    }
+
+                    // The overlap of the area with this section, in section local coordinates
+                    final int x0 = Math.max(minX - SectionPos.sectionToBlockCoord(chunkX), 0), x1 = Math.min(maxX - SectionPos.sectionToBlockCoord(chunkX), 15);
+                    final int y0 = Math.max(minY - SectionPos.sectionToBlockCoord(sectionY), 0), y1 = Math.min(maxY - SectionPos.sectionToBlockCoord(sectionY), 15);
+                    final int z0 = Math.max(minZ - SectionPos.sectionToBlockCoord(chunkZ), 0), z1 = Math.min(maxZ - SectionPos.sectionToBlockCoord(chunkZ), 15);
+
+                    if (x0 == 0 && y0 == 0 && z0 == 0 && x1 == 15 && y1 == 15 && z1 == 15)
+                    {
+                        section.getStates().count((state, count) -> {
+                            if (predicate.test(state))
+                            {
+                                results.mergeInt(state, count, Integer::sum);
+                            }
+                        });
+                        continue;
+                    }
+
+                    for (int y = y0; y <= y1; y++)
+                    {
+                        for (int z = z0; z <= z1; z++)
+                        {
+                            for (int x = x0; x <= x1; x++)
+                            {
+                                final BlockState state = section.getBlockState(x, y, z);
+                                if (predicate.test(state))
+                                {
+                                    results.mergeInt(state, 1, Integer::sum);
+                                }
+                            }
+                        }
+                    }
+                }
             }
         }
         return results;
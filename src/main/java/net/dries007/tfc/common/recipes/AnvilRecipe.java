@@ -6,14 +6,17 @@
 
 package net.dries007.tfc.common.recipes;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeSerializer;
@@ -29,10 +32,13 @@ import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.JsonHelpers;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 import org.jetbrains.annotations.Nullable;
 
 public class AnvilRecipe implements ISimpleRecipe<AnvilRecipe.Inventory>
 {
+    public static final IndirectHashCollection<Item, AnvilRecipe> CACHE = IndirectHashCollection.createForRecipe(recipe -> Arrays.stream(recipe.input.getItems()).map(ItemStack::getItem).collect(Collectors.toList()), TFCRecipeTypes.ANVIL);
+
     public static boolean hasAny(Level level, Inventory inventory)
     {
         return hasAny(level, inventory.getItem(), inventory.getTier());
@@ -40,10 +46,14 @@ public class AnvilRecipe implements ISimpleRecipe<AnvilRecipe.Inventory>
 
     public static boolean hasAny(Level level, ItemStack stack, int tier)
     {
-        return Helpers.getRecipes(level, TFCRecipeTypes.ANVIL)
-            .values()
-            .stream()
-            .anyMatch(r -> r.input.test(stack) && tier >= r.minTier); // anyMatch() should be faster than calling toList().isEmpty()
+        for (AnvilRecipe recipe : CACHE.getAll(stack.getItem()))
+        {
+            if (recipe.input.test(stack) && tier >= recipe.minTier)
+            {
+                return true;
+            }
+        }
+        return false;
     }
 
     public static List<AnvilRecipe> getAll(Level level, Inventory inventory)
@@ -53,11 +63,15 @@ public class AnvilRecipe implements ISimpleRecipe<AnvilRecipe.Inventory>
 
     public static List<AnvilRecipe> getAll(Level level, ItemStack stack, int tier)
     {
-        return Helpers.getRecipes(level, TFCRecipeTypes.ANVIL)
-            .values()
-            .stream()
-            .filter(r -> r.input.test(stack) && tier >= r.minTier)
-            .toList();
+        final List<AnvilRecipe> recipes = new ArrayList<>();
+        for (AnvilRecipe recipe : CACHE.getAll(stack.getItem()))
+        {
+            if (recipe.input.test(stack) && tier >= recipe.minTier)
+            {
+                recipes.add(recipe);
+            }
+        }
+        return recipes;
     }
 
     private final ResourceLocation id;
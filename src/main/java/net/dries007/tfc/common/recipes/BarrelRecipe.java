@@ -6,6 +6,8 @@
 
 package net.dries007.tfc.common.recipes;
 
+import java.util.Collection;
+
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import net.minecraft.network.FriendlyByteBuf;
@@ -15,6 +17,7 @@ import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.registries.ForgeRegistries;
@@ -26,10 +29,28 @@ import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.JsonHelpers;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 import org.jetbrains.annotations.Nullable;
 
 public abstract class BarrelRecipe implements ISimpleRecipe<BarrelBlockEntity.BarrelInventory>
 {
+    /**
+     * Every barrel recipe requires its input fluid to match the fluid in the tank, so recipes are indexed by their input fluid. An empty tank is indexed by {@link net.minecraft.world.level.material.Fluids#EMPTY}.
+     * Recipes are checked in the same order as the recipe manager would, so the first match is identical to {@link net.minecraft.world.item.crafting.RecipeManager#getRecipeFor}.
+     */
+    @Nullable
+    static <R extends BarrelRecipe> R getRecipe(IndirectHashCollection<Fluid, R> cache, BarrelBlockEntity.BarrelInventory inventory)
+    {
+        for (R recipe : cache.getAll(inventory.getFluidInTank(0).getFluid()))
+        {
+            if (recipe.matches(inventory, null))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
     private final ResourceLocation id;
 
     protected final ItemStackIngredient inputItem;
@@ -159,6 +180,11 @@ public abstract class BarrelRecipe implements ISimpleRecipe<BarrelBlockEntity.Ba
         return inputFluid;
     }
 
+    public Collection<Fluid> getValidInputFluids()
+    {
+        return inputFluid.ingredient().getMatchingFluids();
+    }
+
     public FluidStack getOutputFluid()
     {
         return outputFluid;
@@ -13,15 +13,25 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.blockentities.BarrelBlockEntity;
 import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.JsonHelpers;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public class SealedBarrelRecipe extends BarrelRecipe
 {
+    public static final IndirectHashCollection<Fluid, SealedBarrelRecipe> CACHE = IndirectHashCollection.createForRecipe(SealedBarrelRecipe::getValidInputFluids, TFCRecipeTypes.BARREL_SEALED);
+
+    @Nullable
+    public static SealedBarrelRecipe getRecipe(BarrelBlockEntity.BarrelInventory inventory)
+    {
+        return getRecipe(CACHE, inventory);
+    }
+
     private final int duration;
 
     @Nullable private final ItemStackProvider onSeal;
@@ -32,6 +32,11 @@ public class CommonConfig
     public final ForgeConfigSpec.IntValue defaultMonthLength;
     public final ForgeConfigSpec.IntValue defaultCalendarStartDay;
 
+    // World Generation
+    public final ForgeConfigSpec.BooleanValue enableRegionStore;
+    public final ForgeConfigSpec.IntValue pregenChunksInFlight;
+    public final ForgeConfigSpec.IntValue pregenTickTimeBudget;
+
     // Debug
     private final ForgeConfigSpec.BooleanValue enableNetworkDebugging;
     private boolean hasLoggedNetworkDebugInfoMessage = false;
@@ -63,6 +68,20 @@ public class CommonConfig
             " The default is (5 * daysInMonth) = 40, which starts at June 1, 1000 (with the default daysInMonth = 8)"
         ).defineInRange("defaultCalendarStartDay", (5 * 8), -1, Integer.MAX_VALUE);
 
+        innerBuilder.pop().push("worldGeneration");
+
+        enableRegionStore = builder.apply("enableRegionStore").comment(
+            " If enabled, regions generated by the continental (tfc:continental) biome source are saved to disk, under the level's data/tfc_regions folder.",
+            " Regions are expensive to generate, and this allows them to be loaded rather than regenerated after a restart, i.e. during world pre-generation."
+        ).define("enableRegionStore", false);
+        pregenChunksInFlight = builder.apply("pregenChunksInFlight").comment(
+            " The maximum number of chunks that /tfc pregen will have requested, but not yet generated, at any time.",
+            " Higher values keep more worldgen threads busy, at the cost of more chunks held in memory."
+        ).defineInRange("pregenChunksInFlight", 64, 1, 1024);
+        pregenTickTimeBudget = builder.apply("pregenTickTimeBudget").comment(
+            " /tfc pregen will not request new chunks while the server's average tick time, in milliseconds, is above this value."
+        ).defineInRange("pregenTickTimeBudget", 45, 1, 1000);
+
         innerBuilder.pop().push("debug");
 
         enableNetworkDebugging = builder.apply("enableNetworkDebugging").comment(
@@ -7,9 +7,10 @@
 package net.dries007.tfc.mixin;
 
 import java.util.Optional;
-import java.util.function.Supplier;
+import java.util.function.BiFunction;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.CommonLevelAccessor;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.biome.Biome;
 
@@ -33,11 +34,11 @@ public abstract class BiomeMixin implements BiomeBridge
     @Nullable
     @Override
     @SuppressWarnings("OptionalAssignedToNull")
-    public BiomeExtension tfc$getExtension(@NotNull Supplier<BiomeExtension> init)
+    public BiomeExtension tfc$getExtension(@NotNull CommonLevelAccessor level, @NotNull BiFunction<CommonLevelAccessor, Biome, BiomeExtension> init)
     {
         if (tfc$cachedExtension == null)
         {
-            tfc$cachedExtension = Optional.ofNullable(init.get());
+            tfc$cachedExtension = Optional.ofNullable(init.apply(level, (Biome) (Object) this));
         }
         return tfc$cachedExtension.orElse(null);
     }
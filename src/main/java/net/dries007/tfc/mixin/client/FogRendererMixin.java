@@ -9,19 +9,25 @@ package net.dries007.tfc.mixin.client;
 import net.minecraft.client.Camera;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.renderer.FogRenderer;
+import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.biome.BiomeManager;
 
 import net.dries007.tfc.client.TFCColors;
-import net.dries007.tfc.util.Helpers;
 import org.spongepowered.asm.mixin.Dynamic;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 
 @Mixin(FogRenderer.class)
 public abstract class FogRendererMixin
 {
+    /**
+     * Fog color is sampled at many positions every frame, always on the render thread, so the position is reused rather than allocated per sample.
+     */
+    @Unique private static final BlockPos.MutableBlockPos tfc$cursor = new BlockPos.MutableBlockPos();
+
     /**
      * Replace the call to {@link Biome#getWaterFogColor()} with one that has a position context
      */
@@ -38,6 +44,6 @@ public abstract class FogRendererMixin
     @Redirect(method = "*(Lnet/minecraft/client/multiplayer/ClientLevel;Lnet/minecraft/world/level/biome/BiomeManager;FIII)Lnet/minecraft/world/phys/Vec3;", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/biome/Biome;getFogColor()I"))
     private static int setupColorRedirectGetFogColor(Biome biome, ClientLevel level, BiomeManager biomeManager, float brightness, int quartX, int quartY, int quartZ)
     {
-        return TFCColors.getFogColor(level, biome, Helpers.quartToBlock(quartX, quartY, quartZ));
+        return TFCColors.getFogColor(level, biome, tfc$cursor.set(quartX << 2, quartY << 2, quartZ << 2));
     }
 }
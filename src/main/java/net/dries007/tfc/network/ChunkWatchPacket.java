@@ -6,86 +6,215 @@
 
 package net.dries007.tfc.network;
 
-import org.jetbrains.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.Mth;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraftforge.network.NetworkEvent;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.dries007.tfc.client.ClientHelpers;
-import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.world.chunkdata.*;
+import org.jetbrains.annotations.Nullable;
 
 /**
- * Sent from server -> client on chunk watch, partially syncs chunk data and updates the client cache
+ * Sent from server -> client once per tick, with all chunks a player started or stopped watching during that tick. Partially syncs chunk data and updates the client cache.
+ * <p>
+ * Chunks are sorted, and positions are sent as the difference to the previous chunk. Climate values are quantized to {@link #CLIMATE_SCALE}, and each corner is sent as the difference to a prediction from the neighbouring chunks already sent in this packet.
+ * Adjacent chunks share corners, so for a typical batch of watched chunks, most corners are sent as a single zero byte.
  */
 public class ChunkWatchPacket
 {
-    private final int chunkX;
-    private final int chunkZ;
-    @Nullable private final LerpFloatLayer rainfallLayer;
-    @Nullable private final LerpFloatLayer temperatureLayer;
-    private final ForestType forestType;
-    private final float forestWeirdness;
-    private final float forestDensity;
-    private final PlateTectonicsClassification plateTectonicsInfo;
-
-    public ChunkWatchPacket(int chunkX, int chunkZ, @Nullable LerpFloatLayer rainfallLayer, @Nullable LerpFloatLayer temperatureLayer, ForestType forestType, float forestDensity, float forestWeirdness, PlateTectonicsClassification plateTectonicsInfo)
+    /**
+     * Rainfall and temperature are sent to the nearest {@code 1 / CLIMATE_SCALE}, i.e. 0.01 mm or 0.01 °C.
+     */
+    private static final float CLIMATE_SCALE = 100f;
+    private static final float FOREST_SCALE = 255f;
+
+    private static final int NW = 0, NE = 1, SW = 2, SE = 3;
+    private static final int HAS_RAINFALL = 0b1, HAS_TEMPERATURE = 0b10;
+
+    private final List<Entry> watched;
+    private final long[] unwatched;
+
+    public ChunkWatchPacket(List<Entry> watched, long[] unwatched)
     {
-        this.chunkX = chunkX;
-        this.chunkZ = chunkZ;
-        this.rainfallLayer = rainfallLayer;
-        this.temperatureLayer = temperatureLayer;
-        this.forestType = forestType;
-        this.forestDensity = forestDensity;
-        this.forestWeirdness = forestWeirdness;
-        this.plateTectonicsInfo = plateTectonicsInfo;
+        this.watched = watched;
+        this.unwatched = unwatched;
     }
 
     ChunkWatchPacket(FriendlyByteBuf buffer)
     {
-        chunkX = buffer.readVarInt();
-        chunkZ = buffer.readVarInt();
-        rainfallLayer = Helpers.decodeNullable(buffer, LerpFloatLayer::new);
-        temperatureLayer = Helpers.decodeNullable(buffer, LerpFloatLayer::new);
-        forestType = ForestType.valueOf(buffer.readByte());
-        forestDensity = buffer.readFloat();
-        forestWeirdness = buffer.readFloat();
-        plateTectonicsInfo = PlateTectonicsClassification.valueOf(buffer.readByte());
+        unwatched = new long[buffer.readVarInt()];
+        int chunkX = 0, chunkZ = 0;
+        for (int i = 0; i < unwatched.length; i++)
+        {
+            chunkX += readSignedVarInt(buffer);
+            chunkZ += readSignedVarInt(buffer);
+            unwatched[i] = ChunkPos.asLong(chunkX, chunkZ);
+        }
+
+        final int size = buffer.readVarInt();
+        final Long2ObjectMap<int[]> rainfall = new Long2ObjectOpenHashMap<>(size), temperature = new Long2ObjectOpenHashMap<>(size);
+        final int[][] previous = new int[2][];
+
+        watched = new ArrayList<>(size);
+        chunkX = chunkZ = 0;
+        for (int i = 0; i < size; i++)
+        {
+            chunkX += readSignedVarInt(buffer);
+            chunkZ += readSignedVarInt(buffer);
+
+            final int flags = buffer.readByte();
+            final ForestType forestType = ForestType.valueOf(buffer.readByte());
+            final PlateTectonicsClassification plateTectonicsInfo = PlateTectonicsClassification.valueOf(buffer.readByte());
+            final float forestDensity = buffer.readUnsignedByte() / FOREST_SCALE;
+            final float forestWeirdness = buffer.readUnsignedByte() / FOREST_SCALE;
+            final LerpFloatLayer rainfallLayer = (flags & HAS_RAINFALL) != 0 ? decodeLayer(buffer, chunkX, chunkZ, rainfall, previous, 0) : null;
+            final LerpFloatLayer temperatureLayer = (flags & HAS_TEMPERATURE) != 0 ? decodeLayer(buffer, chunkX, chunkZ, temperature, previous, 1) : null;
+
+            watched.add(new Entry(chunkX, chunkZ, rainfallLayer, temperatureLayer, forestType, forestDensity, forestWeirdness, plateTectonicsInfo));
+        }
     }
 
     void encode(FriendlyByteBuf buffer)
     {
-        buffer.writeVarInt(chunkX);
-        buffer.writeVarInt(chunkZ);
-        Helpers.encodeNullable(rainfallLayer, buffer, LerpFloatLayer::encode);
-        Helpers.encodeNullable(temperatureLayer, buffer, LerpFloatLayer::encode);
-        buffer.writeByte(forestType.ordinal());
-        buffer.writeFloat(forestDensity);
-        buffer.writeFloat(forestWeirdness);
-        buffer.writeByte(plateTectonicsInfo.ordinal());
+        buffer.writeVarInt(unwatched.length);
+        int chunkX = 0, chunkZ = 0;
+        for (long pos : unwatched)
+        {
+            writeSignedVarInt(buffer, ChunkPos.getX(pos) - chunkX);
+            writeSignedVarInt(buffer, ChunkPos.getZ(pos) - chunkZ);
+            chunkX = ChunkPos.getX(pos);
+            chunkZ = ChunkPos.getZ(pos);
+        }
+
+        // Sort in row order, so the west and north neighbours of a chunk are sent before it
+        final List<Entry> sorted = new ArrayList<>(watched);
+        sorted.sort(Comparator.comparingInt(Entry::chunkZ).thenComparingInt(Entry::chunkX));
+
+        final Long2ObjectMap<int[]> rainfall = new Long2ObjectOpenHashMap<>(sorted.size()), temperature = new Long2ObjectOpenHashMap<>(sorted.size());
+        final int[][] previous = new int[2][];
+
+        buffer.writeVarInt(sorted.size());
+        chunkX = chunkZ = 0;
+        for (Entry entry : sorted)
+        {
+            writeSignedVarInt(buffer, entry.chunkX - chunkX);
+            writeSignedVarInt(buffer, entry.chunkZ - chunkZ);
+            chunkX = entry.chunkX;
+            chunkZ = entry.chunkZ;
+
+            buffer.writeByte((entry.rainfallLayer != null ? HAS_RAINFALL : 0) | (entry.temperatureLayer != null ? HAS_TEMPERATURE : 0));
+            buffer.writeByte(entry.forestType.ordinal());
+            buffer.writeByte(entry.plateTectonicsInfo.ordinal());
+            buffer.writeByte(Mth.clamp(Math.round(entry.forestDensity * FOREST_SCALE), 0, 255));
+            buffer.writeByte(Mth.clamp(Math.round(entry.forestWeirdness * FOREST_SCALE), 0, 255));
+            if (entry.rainfallLayer != null)
+            {
+                encodeLayer(buffer, chunkX, chunkZ, entry.rainfallLayer, rainfall, previous, 0);
+            }
+            if (entry.temperatureLayer != null)
+            {
+                encodeLayer(buffer, chunkX, chunkZ, entry.temperatureLayer, temperature, previous, 1);
+            }
+        }
     }
 
     void handle(NetworkEvent.Context context)
     {
         context.enqueueWork(() -> {
-            ChunkPos pos = new ChunkPos(chunkX, chunkZ);
+            for (long pos : unwatched)
+            {
+                ChunkDataCache.CLIENT.remove(pos);
+            }
+
             // Update client-side chunk data capability
-            Level world = ClientHelpers.getLevel();
-            if (world != null)
+            final Level level = ClientHelpers.getLevel();
+            if (level != null)
             {
-                // First, synchronize the chunk data in the capability and cache.
-                // Then, update the single data instance with the packet data
-                ChunkAccess chunk = world.hasChunk(chunkX, chunkZ) ? world.getChunk(chunkX, chunkZ) : null;
-                ChunkData data = ChunkData.getCapability(chunk)
-                    .map(dataIn -> {
-                        ChunkDataCache.CLIENT.update(pos, dataIn);
-                        return dataIn;
-                    }).orElseGet(() -> ChunkDataCache.CLIENT.computeIfAbsent(pos, ChunkData::createClient));
-                data.onUpdatePacket(rainfallLayer, temperatureLayer, forestType, forestDensity, forestWeirdness, plateTectonicsInfo);
+                for (Entry entry : watched)
+                {
+                    // First, synchronize the chunk data in the capability and cache.
+                    // Then, update the single data instance with the packet data
+                    final ChunkPos pos = new ChunkPos(entry.chunkX, entry.chunkZ);
+                    final ChunkAccess chunk = level.hasChunk(entry.chunkX, entry.chunkZ) ? level.getChunk(entry.chunkX, entry.chunkZ) : null;
+                    final ChunkData data = ChunkData.getCapability(chunk)
+                        .map(dataIn -> {
+                            ChunkDataCache.CLIENT.update(pos, dataIn);
+                            return dataIn;
+                        }).orElseGet(() -> ChunkDataCache.CLIENT.computeIfAbsent(pos, ChunkData::createClient));
+                    data.onUpdatePacket(entry.rainfallLayer, entry.temperatureLayer, entry.forestType, entry.forestDensity, entry.forestWeirdness, entry.plateTectonicsInfo);
+
+                    // This packet may arrive up to a tick after the vanilla chunk packet, so the chunk may already have been meshed with empty data, and the wrong colors
+                    if (chunk != null)
+                    {
+                        ClientHelpers.markChunkForRerender(level, entry.chunkX, entry.chunkZ);
+                    }
+                }
             }
         });
     }
-}
\ No newline at end of file
+
+    private static void encodeLayer(FriendlyByteBuf buffer, int chunkX, int chunkZ, LerpFloatLayer layer, Long2ObjectMap<int[]> sent, int[][] previous, int index)
+    {
+        final int[] values = layer.quantize(CLIMATE_SCALE);
+        final int[] west = sent.get(ChunkPos.asLong(chunkX - 1, chunkZ)), north = sent.get(ChunkPos.asLong(chunkX, chunkZ - 1));
+        for (int corner = NW; corner <= SE; corner++)
+        {
+            writeSignedVarInt(buffer, values[corner] - predict(corner, values, west, north, previous[index]));
+        }
+        sent.put(ChunkPos.asLong(chunkX, chunkZ), values);
+        previous[index] = values;
+    }
+
+    private static LerpFloatLayer decodeLayer(FriendlyByteBuf buffer, int chunkX, int chunkZ, Long2ObjectMap<int[]> received, int[][] previous, int index)
+    {
+        final int[] values = new int[4];
+        final int[] west = received.get(ChunkPos.asLong(chunkX - 1, chunkZ)), north = received.get(ChunkPos.asLong(chunkX, chunkZ - 1));
+        for (int corner = NW; corner <= SE; corner++)
+        {
+            // Predictions only depend on corners of this chunk which have already been decoded
+            values[corner] = readSignedVarInt(buffer) + predict(corner, values, west, north, previous[index]);
+        }
+        received.put(ChunkPos.asLong(chunkX, chunkZ), values);
+        previous[index] = values;
+        return LerpFloatLayer.dequantize(values, CLIMATE_SCALE);
+    }
+
+    /**
+     * Predicts a corner value, from the same corner shared with the west or north neighbour if present, or otherwise from the corners of this chunk already known.
+     */
+    private static int predict(int corner, int[] values, @Nullable int[] west, @Nullable int[] north, @Nullable int[] previous)
+    {
+        return switch (corner)
+            {
+                case NW -> west != null ? west[NE] : north != null ? north[SW] : previous != null ? previous[NW] : 0;
+                case NE -> north != null ? north[SE] : values[NW];
+                case SW -> west != null ? west[SE] : values[NW];
+                default -> values[NE] + values[SW] - values[NW];
+            };
+    }
+
+    private static void writeSignedVarInt(FriendlyByteBuf buffer, int value)
+    {
+        buffer.writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    private static int readSignedVarInt(FriendlyByteBuf buffer)
+    {
+        final int value = buffer.readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * The chunk data synced for a single watched chunk.
+     */
+    public record Entry(int chunkX, int chunkZ, @Nullable LerpFloatLayer rainfallLayer, @Nullable LerpFloatLayer temperatureLayer, ForestType forestType, float forestDensity, float forestWeirdness, PlateTectonicsClassification plateTectonicsInfo) {}
+}
@@ -145,6 +145,7 @@ import net.dries007.tfc.common.entities.ai.prey.PestAi;
 import net.dries007.tfc.common.entities.prey.Pest;
 import net.dries007.tfc.common.items.TFCShieldItem;
 import net.dries007.tfc.mixin.accessor.RecipeManagerAccessor;
+import net.dries007.tfc.util.collections.TagBitSetCache;
 import net.dries007.tfc.world.feature.MultipleFeature;
 
 import static net.dries007.tfc.TerraFirmaCraft.*;
@@ -1422,12 +1423,12 @@ public final class Helpers
 
     public static boolean isItem(ItemStack stack, TagKey<Item> tag)
     {
-        return checkTag(ForgeRegistries.ITEMS, stack.getItem(), tag);
+        return TagBitSetCache.ITEMS.contains(stack.getItem(), tag);
     }
 
     public static boolean isItem(Item item, TagKey<Item> tag)
     {
-        return checkTag(ForgeRegistries.ITEMS, item, tag);
+        return TagBitSetCache.ITEMS.contains(item, tag);
     }
 
     public static boolean isBlock(BlockState first, Block second)
@@ -1442,17 +1443,17 @@ public final class Helpers
 
     public static boolean isBlock(Block block, TagKey<Block> tag)
     {
-        return checkTag(ForgeRegistries.BLOCKS, block, tag);
+        return TagBitSetCache.BLOCKS.contains(block, tag);
     }
 
     public static boolean isFluid(FluidState state, TagKey<Fluid> tag)
     {
-        return checkTag(ForgeRegistries.FLUIDS, state.getType(), tag);
+        return TagBitSetCache.FLUIDS.contains(state.getType(), tag);
     }
 
     public static boolean isFluid(Fluid first, TagKey<Fluid> second)
     {
-        return checkTag(ForgeRegistries.FLUIDS, first, second);
+        return TagBitSetCache.FLUIDS.contains(first, second);
     }
 
     public static boolean isFluid(FluidState first, Fluid second)
@@ -42,6 +42,14 @@ public class ItemDefinition
         return ingredient.test(stack);
     }
 
+    /**
+     * @return {@code true} if this definition matches every stack of each of its {@link #getValidItems()}, regardless of NBT. This is the case for simple (item and tag) ingredients.
+     */
+    public boolean isItemOnly()
+    {
+        return ingredient.isSimple();
+    }
+
     public Collection<Item> getValidItems()
     {
         return Arrays.stream(ingredient.getItems()).map(ItemStack::getItem).collect(Collectors.toSet());
@@ -13,6 +13,9 @@ import net.minecraft.world.level.block.entity.BlockEntity;
  * In order to implement this, a field `lastUpdateTick` should be added and serialized. Nothing else should access this field, or the provided accessors. Doing so is almost certainly a bug, as this field just represents the last tick the block entity has been actively ticked.
  * The default value of this field should be initialized to {@link Integer#MIN_VALUE}.
  * <p>
+ * Block entities may also sleep, by calling {@link #checkForCalendarUpdateAndSleep()} instead, and overriding {@link #getSleepUntilTick()} and {@link #setSleepUntilTick(long)} with a (non-serialized) field. While asleep, the check does nothing, and on waking, the block entity receives a single {@link #onCalendarUpdate(long)} for the time it was asleep, as if it had been unloaded.
+ * Block entities which sleep are only marked dirty when a calendar update actually happens, so they must mark themselves dirty whenever their tick changes any other saved state.
+ * <p>
  * Note: the default {@link #checkForCalendarUpdate()} casts the implementor to {@link BlockEntity}.
  */
 public interface ICalendarTickable
@@ -20,7 +23,9 @@ public interface ICalendarTickable
     /**
      * Here we check every tick for a calendar discrepancy. This only checks for differences in player time, and calls {@link ICalendarTickable#onCalendarUpdate(long playerTickDelta)} as necessary.
      * <p>
-     * Implementations MUST call {@code checkForCalendarUpdate()} in their {@code serverTick} method.
+     * Implementations MUST call {@code checkForCalendarUpdate()}, or {@link #checkForCalendarUpdateAndSleep()}, in their {@code serverTick} method.
+     * <p>
+     * This marks the block entity dirty every tick, as implementations may rely on this to save state they modify in their tick.
      */
     default void checkForCalendarUpdate()
     {
@@ -39,6 +44,39 @@ public interface ICalendarTickable
         }
     }
 
+    /**
+     * A variant of {@link #checkForCalendarUpdate()} for block entities which sleep. This does nothing while asleep, and on a regular tick, only updates {@code lastUpdateTick} in memory, without marking the block entity dirty.
+     * Block entities which never sleep, but whose regular tick changes no other saved state, should also use this, to avoid re-saving their chunk every tick.
+     * The saved {@code lastUpdateTick} may then be older than the last tick. This is safe, as long as the rest of the saved state is from the same point in time, as when loaded, the block entity will catch up from that point, exactly as if it had been unloaded then.
+     *
+     * @return {@code true} if this block entity is awake. Implementations should skip the remainder of their tick if this returns {@code false}.
+     */
+    default boolean checkForCalendarUpdateAndSleep()
+    {
+        final BlockEntity entity = ((BlockEntity) this);
+        if (entity.getLevel() != null && !entity.getLevel().isClientSide())
+        {
+            final long thisTick = Calendars.SERVER.getTicks();
+            if (thisTick < getSleepUntilTick())
+            {
+                return false;
+            }
+
+            final long lastTick = getLastUpdateTick();
+            final long tickDelta = thisTick - lastTick;
+            if (tickDelta != 1)
+            {
+                if (lastTick != Integer.MIN_VALUE)
+                {
+                    onCalendarUpdate(tickDelta - 1);
+                }
+                markDirty();
+            }
+            setLastUpdateTick(thisTick);
+        }
+        return true;
+    }
+
     /**
      * Called when the calendar jumps forward by a tick amount > 1.
      *
@@ -60,6 +98,31 @@ public interface ICalendarTickable
     @Deprecated
     void setLastUpdateTick(long tick);
 
+    /**
+     * Puts this block entity to sleep until the given calendar tick, or until {@link #wake()} is called. Has no effect unless the implementation supports sleeping, and calls {@link #checkForCalendarUpdateAndSleep()}.
+     */
+    default void sleepUntil(long tick)
+    {
+        setSleepUntilTick(tick);
+    }
+
+    /**
+     * Wakes this block entity, if it is asleep. This must be called whenever something happens which a sleeping block entity needs to react to, i.e. its inventory changing.
+     */
+    default void wake()
+    {
+        setSleepUntilTick(Long.MIN_VALUE);
+    }
+
+    /**
+     * @return The calendar tick this block entity is asleep until. By default, block entities never sleep.
+     */
+    default long getSleepUntilTick()
+    {
+        return Long.MIN_VALUE;
+    }
+
+    default void setSleepUntilTick(long tick) {}
 
     default void markDirty()
     {
@@ -186,8 +186,8 @@ public final class Climate
 
     public static ClimateModel model(Level level)
     {
-        return level.getCapability(WorldTrackerCapability.CAPABILITY)
-            .map(WorldTracker::getClimateModel)
-            .orElse(ClimateModels.BIOME_BASED.get().create());
+        // Avoids LazyOptional#map, as this is queried many times per frame, and per tick
+        final WorldTracker tracker = Helpers.getCapability(level, WorldTrackerCapability.CAPABILITY);
+        return tracker != null ? tracker.getClimateModel() : ClimateModels.BIOME_BASED.get().create();
     }
 }
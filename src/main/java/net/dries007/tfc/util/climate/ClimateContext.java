@@ -0,0 +1,24 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.climate;
+
+/**
+ * The time dependent factors of temperature in the {@link OverworldClimateModel}, for a single calendar tick.
+ * These are the same for every position, and every temperature query made during a tick (by random ticks, environment effects, and biome snow and freeze checks) shares them, so they are computed once per tick rather than once per query.
+ *
+ * @param monthFactor      The temperature modifier of the current month, interpolated towards the next month.
+ * @param dailyTemperature The daily temperature variation.
+ */
+record ClimateContext(long calendarTicks, int daysInMonth, float monthFactor, float dailyTemperature)
+{
+    static final ClimateContext EMPTY = new ClimateContext(Long.MIN_VALUE, 0, 0, 0);
+
+    boolean isAt(long calendarTicks, int daysInMonth)
+    {
+        return this.calendarTicks == calendarTicks && this.daysInMonth == daysInMonth;
+    }
+}
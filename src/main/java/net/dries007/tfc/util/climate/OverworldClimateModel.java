@@ -108,6 +108,16 @@ public class OverworldClimateModel implements WorldGenClimateModel
     private ClimateSettings temperatureSettings = ClimateSettings.DEFAULT;
     private long climateSeed = 0;
 
+    /**
+     * The most recently used context. Temperature may be queried from world generation threads, so this is replaced, never modified.
+     */
+    private volatile ClimateContext context = ClimateContext.EMPTY;
+
+    /**
+     * The fog parameters of the most recently queried day. Fogginess is queried every frame, but only changes per day.
+     */
+    private volatile FogDay fogDay = FogDay.EMPTY;
+
     // For world generation climate
     private Noise2D snowPatchNoise = (x, z) -> 0;
     private Noise2D icePatchNoise = (x, z) -> 0;
@@ -124,15 +134,10 @@ public class OverworldClimateModel implements WorldGenClimateModel
     @Override
     public float getTemperature(@Nullable LevelReader level, BlockPos pos, ChunkData data, long calendarTicks, int daysInMonth)
     {
-        // Month temperature
-        final Month currentMonth = ICalendar.getMonthOfYear(calendarTicks, daysInMonth);
-        final float delta = ICalendar.getFractionOfMonth(calendarTicks, daysInMonth);
-        final float monthFactor = Mth.lerp(delta, currentMonth.getTemperatureModifier(), currentMonth.next().getTemperatureModifier());
+        final ClimateContext context = getContext(calendarTicks, daysInMonth);
+        final float monthTemperature = calculateMonthlyTemperature(pos.getZ(), context.monthFactor());
 
-        final float monthTemperature = calculateMonthlyTemperature(pos.getZ(), monthFactor);
-        final float dailyTemperature = calculateDailyTemperature(calendarTicks);
-
-        return adjustTemperatureByElevation(pos.getY(), data.getAverageTemp(pos), monthTemperature, dailyTemperature);
+        return adjustTemperatureByElevation(pos.getY(), data.getAverageTemp(pos), monthTemperature, context.dailyTemperature());
     }
 
     @Override
@@ -153,13 +158,19 @@ public class OverworldClimateModel implements WorldGenClimateModel
     {
         // seed as if we're 2 hours in the future, in order to start the cycle at 4am (2 hours before sunrise)
         final long day = ICalendar.getTotalDays(calendarTime + (2 * ICalendar.TICKS_IN_HOUR));
-        final Random random = seededRandom(day, 129341623413L);
-        if (random.nextInt(FOGGY_DAY_RARITY) != 0)
+        FogDay fogDay = this.fogDay;
+        if (fogDay.day() != day)
         {
-            return 0;
+            final Random random = seededRandom(day, 129341623413L);
+            fogDay = new FogDay(day, random.nextInt(FOGGY_DAY_RARITY) == 0 ? random.nextFloat() : 0); // untransformed value of the fog
+            this.fogDay = fogDay;
         }
 
-        final float fogModifier = random.nextFloat(); // untransformed value of the fog
+        final float fogModifier = fogDay.fogModifier();
+        if (fogModifier == 0)
+        {
+            return 0;
+        }
 
         final long dayTime = Calendars.get(level).getCalendarDayTime();
         float scaledTime; // a value between 0 and 1
@@ -328,12 +339,35 @@ public class OverworldClimateModel implements WorldGenClimateModel
 
         temperatureSettings = new ClimateSettings(scale, endless);
         climateSeed = buffer.readLong();
+        context = ClimateContext.EMPTY;
+        fogDay = FogDay.EMPTY;
     }
 
     protected void updateNoise()
     {
         this.snowPatchNoise = new OpenSimplex2D(climateSeed + 72397489123L).octaves(2).spread(0.3f).scaled(-1, 1);
         this.icePatchNoise = new OpenSimplex2D(climateSeed + 192639412341L).octaves(3).spread(0.6f);
+        this.context = ClimateContext.EMPTY; // Daily temperature and fog depend on the climate seed
+        this.fogDay = FogDay.EMPTY;
+    }
+
+    /**
+     * @return The time dependent temperature factors at the given time, reusing the previous context if it was for the same time.
+     */
+    private ClimateContext getContext(long calendarTicks, int daysInMonth)
+    {
+        ClimateContext context = this.context;
+        if (!context.isAt(calendarTicks, daysInMonth))
+        {
+            // Month temperature
+            final Month currentMonth = ICalendar.getMonthOfYear(calendarTicks, daysInMonth);
+            final float delta = ICalendar.getFractionOfMonth(calendarTicks, daysInMonth);
+            final float monthFactor = Mth.lerp(delta, currentMonth.getTemperatureModifier(), currentMonth.next().getTemperatureModifier());
+
+            context = new ClimateContext(calendarTicks, daysInMonth, monthFactor, calculateDailyTemperature(calendarTicks));
+            this.context = context;
+        }
+        return context;
     }
 
     /**
@@ -404,4 +438,12 @@ public class OverworldClimateModel implements WorldGenClimateModel
         seed = LinearCongruentialGenerator.next(seed, salt);
         return new Random(seed);
     }
+
+    /**
+     * @param fogModifier The untransformed fog value for the day, or zero if the day is not foggy.
+     */
+    private record FogDay(long day, float fogModifier)
+    {
+        static final FogDay EMPTY = new FogDay(Long.MIN_VALUE, 0);
+    }
 }
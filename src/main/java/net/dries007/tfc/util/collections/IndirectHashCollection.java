@@ -35,11 +35,10 @@ public class IndirectHashCollection<K, R>
     private static final Map<IndirectHashCollection<?, ?>, Supplier<Collection<?>>> DIRECT_CACHES = new HashMap<>();
     private static final Map<IndirectHashCollection<?, ?>, Supplier<RecipeType<?>>> RECIPE_CACHES = new HashMap<>();
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public static <K, R> IndirectHashCollection<K, R> create(Function<R, Iterable<? extends K>> keyExtractor, Supplier<Collection<R>> reloadableCollection)
     {
         final IndirectHashCollection<K, R> cache = new IndirectHashCollection<>(keyExtractor);
-        DIRECT_CACHES.put(cache, (Supplier) reloadableCollection);
+        register(cache, reloadableCollection);
         return cache;
     }
 
@@ -51,6 +50,12 @@ public class IndirectHashCollection<K, R>
         return cache;
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <K, R> void register(IndirectHashCollection<K, R> cache, Supplier<Collection<R>> reloadableCollection)
+    {
+        DIRECT_CACHES.put(cache, (Supplier) reloadableCollection);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static void reloadAllCaches(RecipeManager manager)
     {
@@ -0,0 +1,113 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import net.minecraft.core.Registry;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.util.ItemDefinition;
+
+/**
+ * An {@link IndirectHashCollection} of {@link ItemDefinition}s, which additionally resolves definitions per item on reload.
+ * <p>
+ * Most definitions match on the item alone (see {@link ItemDefinition#isItemOnly()}). For each item, the definitions are walked once, in order, up to and including the first item-only definition, which will always match. Any NBT dependent definitions before it are kept, and are the only predicates which are tested on query.
+ * The result is stored in a dense array indexed by the item's registry id, so a query for an item with only item-only definitions is a single array read.
+ */
+public class ItemDefinitionCache<T extends ItemDefinition> extends IndirectHashCollection<Item, T>
+{
+    public static <T extends ItemDefinition> ItemDefinitionCache<T> create(Supplier<Collection<T>> reloadableCollection)
+    {
+        final ItemDefinitionCache<T> cache = new ItemDefinitionCache<>();
+        register(cache, reloadableCollection);
+        return cache;
+    }
+
+    private volatile Entry<?>[] entries = new Entry<?>[0];
+
+    private ItemDefinitionCache()
+    {
+        super(ItemDefinition::getValidItems);
+    }
+
+    /**
+     * @return The first definition which matches the stack, or {@code null} if none do.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public T get(ItemStack stack)
+    {
+        final Entry<?>[] entries = this.entries;
+        final int id = Registry.ITEM.getId(stack.getItem());
+        if (id >= 0 && id < entries.length)
+        {
+            final Entry<T> entry = (Entry<T>) entries[id];
+            if (entry != null)
+            {
+                for (T def : entry.dynamic)
+                {
+                    if (def.matches(stack))
+                    {
+                        return def;
+                    }
+                }
+                return entry.fallback;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void reload(Collection<T> values)
+    {
+        super.reload(values);
+
+        final List<Item> items = new ArrayList<>();
+        int maxId = -1;
+        for (T def : values)
+        {
+            for (Item item : def.getValidItems())
+            {
+                items.add(item);
+                maxId = Math.max(maxId, Registry.ITEM.getId(item));
+            }
+        }
+
+        final Entry<?>[] newEntries = new Entry<?>[maxId + 1];
+        for (Item item : items)
+        {
+            final int id = Registry.ITEM.getId(item);
+            if (id >= 0 && newEntries[id] == null)
+            {
+                newEntries[id] = resolve(getAll(item));
+            }
+        }
+        entries = newEntries;
+    }
+
+    private Entry<T> resolve(Collection<T> candidates)
+    {
+        final List<T> dynamic = new ArrayList<>(0);
+        for (T def : candidates)
+        {
+            if (def.isItemOnly())
+            {
+                return new Entry<>(dynamic, def);
+            }
+            dynamic.add(def);
+        }
+        return new Entry<>(dynamic, null);
+    }
+
+    record Entry<T>(List<T> dynamic, @Nullable T fallback) {}
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import net.minecraft.core.IdMap;
+import net.minecraft.core.Registry;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraftforge.registries.IForgeRegistry;
+import net.minecraftforge.registries.IForgeRegistryEntry;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+/**
+ * A cache of tag membership, for registries where tag queries are on hot paths (block updates, world generation, prospecting).
+ * <p>
+ * Each tag is compiled, on first query, into a bit set indexed by the registry id of each element. {@link TagKey}s are interned, so the tag is found with an identity lookup, and membership is then a single array read.
+ * All compiled tags are discarded by {@link #invalidateAll()} whenever tags are reloaded.
+ */
+public final class TagBitSetCache<T extends IForgeRegistryEntry<T>>
+{
+    public static final TagBitSetCache<Block> BLOCKS = new TagBitSetCache<>(ForgeRegistries.BLOCKS, Registry.BLOCK);
+    public static final TagBitSetCache<Item> ITEMS = new TagBitSetCache<>(ForgeRegistries.ITEMS, Registry.ITEM);
+    public static final TagBitSetCache<Fluid> FLUIDS = new TagBitSetCache<>(ForgeRegistries.FLUIDS, Registry.FLUID);
+
+    public static void invalidateAll()
+    {
+        BLOCKS.invalidate();
+        ITEMS.invalidate();
+        FLUIDS.invalidate();
+    }
+
+    private final IForgeRegistry<T> registry;
+    private final IdMap<T> ids;
+
+    // Copy on write, so reads never need to lock. Tags are only ever added a few hundred times between reloads.
+    private volatile Reference2ObjectMap<TagKey<T>, long[]> sets = new Reference2ObjectOpenHashMap<>();
+
+    private TagBitSetCache(IForgeRegistry<T> registry, IdMap<T> ids)
+    {
+        this.registry = registry;
+        this.ids = ids;
+    }
+
+    public boolean contains(T object, TagKey<T> tag)
+    {
+        long[] set = sets.get(tag);
+        if (set == null)
+        {
+            set = compile(tag);
+        }
+        final int id = ids.getId(object);
+        final int index = id >> 6;
+        return id >= 0 && index < set.length && (set[index] & (1L << id)) != 0;
+    }
+
+    private synchronized long[] compile(TagKey<T> tag)
+    {
+        final long[] existing = sets.get(tag);
+        if (existing != null)
+        {
+            return existing;
+        }
+
+        long[] set = new long[0];
+        for (T element : Objects.requireNonNull(registry.tags()).getTag(tag))
+        {
+            final int id = ids.getId(element);
+            if (id >= 0)
+            {
+                final int index = id >> 6;
+                if (index >= set.length)
+                {
+                    set = Arrays.copyOf(set, index + 1);
+                }
+                set[index] |= 1L << id;
+            }
+        }
+
+        final Reference2ObjectMap<TagKey<T>, long[]> newSets = new Reference2ObjectOpenHashMap<>(sets);
+        newSets.put(tag, set);
+        sets = newSets;
+        return set;
+    }
+
+    private synchronized void invalidate()
+    {
+        sets = new Reference2ObjectOpenHashMap<>();
+    }
+}
@@ -22,6 +22,26 @@ import net.dries007.tfc.world.biome.BiomeExtension;
  */
 public class ChunkHeightFiller
 {
+    /**
+     * Interpolates a height within a chunk, from heights sampled by {@link #sampleHeightAtQuart(int, int, int, int)} at each quart position, including the far edges.
+     * <p>
+     * This is exact at quart positions, and for heights which vary linearly across a quart. Elsewhere, the result is a weighted average of the four surrounding quart heights, so the error is bounded by both:
+     * <ul>
+     *     <li>The range of heights within the 5x5 block area spanned by those four quart positions, and</li>
+     *     <li>{@code 4 * L}, where {@code L} is the largest height difference between two adjacent columns in that area. The weighted distance to the four quart positions is at most two columns along each axis.</li>
+     * </ul>
+     * So on steep terrain the error grows with the local slope, to at most the height of a cliff crossing the quart. Base heights are only an estimate for structure placement, and vanilla interpolates noise at the same resolution.
+     *
+     * @param quartHeights A 5x5 grid of heights, at quart pos resolution, indexed by {@code x + 5 * z}.
+     * @param localX The chunk local X, in [0, 15]
+     * @param localZ The chunk local Z, in [0, 15]
+     */
+    public static double interpolateQuartHeights(double[] quartHeights, int localX, int localZ)
+    {
+        final int index = (localX >> 2) + 5 * (localZ >> 2);
+        return Mth.lerp2((localX & 3) * 0.25, (localZ & 3) * 0.25, quartHeights[index], quartHeights[index + 1], quartHeights[index + 5], quartHeights[index + 6]);
+    }
+
     protected final Map<BiomeExtension, BiomeNoiseSampler> biomeNoiseSamplers; // Biome -> Noise Samplers
     protected final Object2DoubleMap<BiomeNoiseSampler> columnBiomeNoiseSamplers; // Per column weighted map of biome noises samplers
 
@@ -49,11 +69,25 @@ public class ChunkHeightFiller
         return sampleColumnHeightAndBiome(biomeWeights1, blockX, blockZ, false);
     }
 
+    /**
+     * Samples the height at a quart position of this chunk with no side effects. Unlike {@link #sampleHeight(int, int)}, this may sample the far edges of the chunk, which are only used for interpolation.
+     *
+     * @param chunkX The minimum block X of this chunk.
+     * @param chunkZ The minimum block Z of this chunk.
+     * @param quartX The chunk local quart X, in [0, 4]
+     * @param quartZ The chunk local quart Z, in [0, 4]
+     */
+    public double sampleHeightAtQuart(int chunkX, int chunkZ, int quartX, int quartZ)
+    {
+        prepareColumnBiomeWeights(quartX << 2, quartZ << 2);
+        return sampleColumnHeightAndBiome(biomeWeights1, chunkX + (quartX << 2), chunkZ + (quartZ << 2), false);
+    }
+
     /**
      * Initializes {@link #biomeWeights1} from the sampled biome weights
      *
-     * @param localX The chunk local X, in [0, 16)
-     * @param localZ The chunk local Z, in [0, 16)
+     * @param localX The chunk local X, in [0, 16]
+     * @param localZ The chunk local Z, in [0, 16]
      */
     protected void prepareColumnBiomeWeights(int localX, int localZ)
     {
@@ -6,8 +6,8 @@
 
 package net.dries007.tfc.world;
 
-import java.util.Arrays;
-import java.util.concurrent.locks.StampedLock;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.ChunkPos;
@@ -17,53 +17,112 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * A concurrent (safe to read and write between multiple threads) positional based, lossy, cache.
+ * <p>
+ * This is lock free: each slot holds an immutable key + value pair, which is read and written with a single volatile access, so readers never block and never observe a key with another key's value.
+ * The cache is set associative: a key may be stored in any of {@code ways} adjacent slots, which reduces thrashing when two frequently used positions hash to the same slot. When all slots for a key are full, one is evicted.
  */
 public class FastConcurrentCache<T>
 {
-    private final StampedLock lock = new StampedLock();
+    private final AtomicReferenceArray<Entry<T>> entries;
+    private final int ways;
+    private final int setMask;
 
-    private final long[] keys;
-    private final T[] values;
-    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
 
-    @SuppressWarnings("unchecked")
     public FastConcurrentCache(int size)
     {
-        size = Mth.smallestEncompassingPowerOfTwo(size);
+        this(size, 1);
+    }
 
-        this.mask = size - 1;
-        this.keys = new long[size];
-        this.values = (T[]) new Object[size];
+    /**
+     * @param size The total number of entries that can be held in the cache. Rounded up to a power of two.
+     * @param ways The associativity of the cache, i.e. how many entries a single key may be stored in. Rounded up to a power of two, and at most {@code size}.
+     */
+    public FastConcurrentCache(int size, int ways)
+    {
+        size = Mth.smallestEncompassingPowerOfTwo(size);
+        ways = Math.min(size, Mth.smallestEncompassingPowerOfTwo(ways));
 
-        Arrays.fill(this.keys, Long.MIN_VALUE);
+        this.entries = new AtomicReferenceArray<>(size);
+        this.ways = ways;
+        this.setMask = (size / ways) - 1;
     }
 
     @Nullable
     public T getIfPresent(int x, int z)
     {
         final long key = ChunkPos.asLong(x, z);
-        final int index = (int) HashCommon.mix(key) & mask;
-        final long stamp = lock.readLock();
-
-        T t = null;
-        if (keys[index] == key)
+        final int start = startIndex(key);
+        for (int i = start; i < start + ways; i++)
         {
-            t = values[index];
+            final Entry<T> entry = entries.get(i);
+            if (entry != null && entry.key == key)
+            {
+                hits.increment();
+                return entry.value;
+            }
         }
-
-        lock.unlockRead(stamp);
-        return t;
+        misses.increment();
+        return null;
     }
 
     public void set(int x, int z, T value)
     {
         final long key = ChunkPos.asLong(x, z);
-        final int index = (int) HashCommon.mix(key) & mask;
-        final long stamp = lock.writeLock();
+        final int start = startIndex(key);
+        final Entry<T> entry = new Entry<>(key, value);
+
+        // Prefer replacing this key, then an empty slot, before evicting another key
+        int empty = -1;
+        for (int i = start; i < start + ways; i++)
+        {
+            final Entry<T> existing = entries.get(i);
+            if (existing == null)
+            {
+                if (empty == -1)
+                {
+                    empty = i;
+                }
+            }
+            else if (existing.key == key)
+            {
+                entries.set(i, entry);
+                return;
+            }
+        }
+
+        if (empty != -1 && entries.compareAndSet(empty, null, entry))
+        {
+            return;
+        }
 
-        keys[index] = key;
-        values[index] = value;
+        // Evict a victim within the set. The choice only needs to be cheap and spread out, so use the upper bits of the hash
+        final int victim = start + ((int) (HashCommon.mix(key) >>> 32) & (ways - 1));
+        entries.set(victim, entry);
+        evictions.increment();
+    }
+
+    public long hits()
+    {
+        return hits.sum();
+    }
+
+    public long misses()
+    {
+        return misses.sum();
+    }
+
+    public long evictions()
+    {
+        return evictions.sum();
+    }
 
-        lock.unlockWrite(stamp);
+    private int startIndex(long key)
+    {
+        return ((int) HashCommon.mix(key) & setMask) * ways;
     }
+
+    record Entry<T>(long key, T value) {}
 }
@@ -0,0 +1,121 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * A {@link FastConcurrentCache} which additionally guarantees that concurrent misses for the same key only compute the value once. The first thread to miss computes the value, and any other threads which miss on the same key while it is being computed wait for, and share, that result.
+ * <p>
+ * This is intended for values which are expensive to compute, and likely to be requested by many worldgen threads at once, such as {@link net.dries007.tfc.world.region.Region}s. Values may still be computed more than once if they are evicted from the underlying cache and requested again.
+ */
+public class SingleFlightCache<T>
+{
+    private final FastConcurrentCache<T> cache;
+    private final ConcurrentHashMap<Long, CompletableFuture<T>> inFlight;
+
+    private final LongAdder builds = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+
+    public SingleFlightCache(int size, int ways)
+    {
+        this.cache = new FastConcurrentCache<>(size, ways);
+        this.inFlight = new ConcurrentHashMap<>();
+    }
+
+    public T getOrCreate(int x, int z, Supplier<T> factory)
+    {
+        T value = cache.getIfPresent(x, z);
+        if (value != null)
+        {
+            return value;
+        }
+
+        final Long key = ChunkPos.asLong(x, z);
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final CompletableFuture<T> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null)
+        {
+            // Another thread is already computing this value, so wait for it
+            deduplicated.increment();
+            try
+            {
+                return existing.join();
+            }
+            catch (CompletionException e)
+            {
+                // Rethrow what the computing thread threw, so waiters see the same exception as the thread which computed the value
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtime)
+                {
+                    throw runtime;
+                }
+                if (cause instanceof Error error)
+                {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+        try
+        {
+            // Between our cache miss and claiming the key, another thread may have finished computing and released it
+            value = cache.getIfPresent(x, z);
+            if (value == null)
+            {
+                value = factory.get();
+                builds.increment();
+                cache.set(x, z, value);
+            }
+            else
+            {
+                deduplicated.increment();
+            }
+            future.complete(value);
+            return value;
+        }
+        catch (Throwable t)
+        {
+            future.completeExceptionally(t);
+            throw t;
+        }
+        finally
+        {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * @return The underlying cache, which tracks hits, misses and evictions.
+     */
+    public FastConcurrentCache<T> cache()
+    {
+        return cache;
+    }
+
+    /**
+     * @return The number of times a value was computed.
+     */
+    public long builds()
+    {
+        return builds.sum();
+    }
+
+    /**
+     * @return The number of times a value would have been computed, but instead waited for, or found, the result of another thread's computation.
+     */
+    public long deduplicated()
+    {
+        return deduplicated.sum();
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -97,6 +98,7 @@ import net.dries007.tfc.world.noise.ChunkNoiseSamplingSettings;
 import net.dries007.tfc.world.noise.Kernel;
 import net.dries007.tfc.world.noise.NoiseSampler;
 import net.dries007.tfc.world.surface.SurfaceManager;
+import org.jetbrains.annotations.Nullable;
 
 import static net.dries007.tfc.TerraFirmaCraft.*;
 
@@ -114,6 +116,11 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
     public static final DeferredRegister<Codec<? extends ChunkGenerator>> CHUNK_GENERATOR = DeferredRegister.create(Registry.CHUNK_GENERATOR_REGISTRY, MOD_ID);
     public static final int DECORATION_STEPS = GenerationStep.Decoration.values().length;
 
+    /**
+     * An upper bound on the number of distinct sets of adjacent biomes for which feature indices are cached, in case of a biome source with an unusually large variety.
+     */
+    private static final int MAX_FEATURE_INDICES_CACHE_SIZE = 1024;
+
     static
     {
         CHUNK_GENERATOR.register("overworld", () -> CODEC);
@@ -319,6 +326,7 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
 
     private final NoiseBasedChunkGenerator stupidMojangChunkGenerator; // Mojang fix your god awful deprecated carver nonsense
     private final FastConcurrentCache<TFCAquifer> aquiferCache;
+    private final FastConcurrentCache<double[]> baseHeightCache;
 
     private final Map<BiomeExtension, Supplier<BiomeNoiseSampler>> biomeNoiseSamplers;
     private final ChunkDataProvider chunkDataProvider;
@@ -326,6 +334,9 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
     private final NoiseSampler noiseSampler;
     private final boolean hasStructures;
 
+    private final Map<Set<Biome>, int[][]> featureIndicesCache;
+    @Nullable private volatile Map<Integer, List<ConfiguredStructureFeature<?, ?>>> structureFeaturesByStep;
+
     public TFCChunkGenerator(Registry<StructureSet> structures, Registry<NormalNoise.NoiseParameters> parameters, TFCBiomeSource biomeSource, Holder<NoiseGeneratorSettings> settings, boolean flatBedrock, long seed)
     {
         super(structures, Optional.empty(), biomeSource);
@@ -337,13 +348,15 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         this.seed = seed;
 
         this.stupidMojangChunkGenerator = new NoiseBasedChunkGenerator(structures, parameters, biomeSource, seed, settings);
-        this.aquiferCache = new FastConcurrentCache<>(256);
+        this.aquiferCache = new FastConcurrentCache<>(256, 4);
+        this.baseHeightCache = new FastConcurrentCache<>(1024, 4);
 
         this.biomeNoiseSamplers = collectBiomeNoiseSamplers(seed);
         this.chunkDataProvider = customBiomeSource.getChunkDataProvider();
         this.surfaceManager = new SurfaceManager(seed);
         this.noiseSampler = new NoiseSampler(this.settings.value().noiseSettings(), seed, parameters);
         this.hasStructures = structures.size() > 0;
+        this.featureIndicesCache = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -502,8 +515,7 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         final Registry<ConfiguredStructureFeature<?, ?>> structureFeatures = level.registryAccess().registryOrThrow(Registry.CONFIGURED_STRUCTURE_FEATURE_REGISTRY);
         final Registry<PlacedFeature> placedFeatures = level.registryAccess().registryOrThrow(Registry.PLACED_FEATURE_REGISTRY);
 
-        final Map<Integer, List<ConfiguredStructureFeature<?, ?>>> structureFeaturesByStep = structureFeatures.stream()
-            .collect(Collectors.groupingBy(feature -> feature.feature.step().ordinal()));
+        final Map<Integer, List<ConfiguredStructureFeature<?, ?>>> structureFeaturesByStep = getStructureFeaturesByStep(structureFeatures);
 
         final List<BiomeSource.StepFeatureData> orderedFeatures = customBiomeSource.featuresPerStep();
         final Random random = new Random();
@@ -517,6 +529,7 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
                 adjSection.getBiomes().getAll(biome -> allAdjacentBiomes.add(biome.value()));
             }
         });
+        final int[][] featureIndicesPerStep = getFeatureIndicesPerStep(level, allAdjacentBiomes);
 
         for (int decorationIndex = 0; decorationIndex < Math.max(DECORATION_STEPS, orderedFeatures.size()); ++decorationIndex)
         {
@@ -546,26 +559,8 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
 
             if (decorationIndex < orderedFeatures.size())
             {
-                final IntSet featureIndices = new IntArraySet();
-                for (Biome biome : allAdjacentBiomes)
-                {
-                    List<HolderSet<PlacedFeature>> featuresPerBiome = TFCBiomes.getExtensionOrThrow(level, biome).getFlattenedFeatures(biome);
-                    if (decorationIndex < featuresPerBiome.size())
-                    {
-                        final HolderSet<PlacedFeature> featuresPerBiomeAtStep = featuresPerBiome.get(decorationIndex);
-                        final BiomeSource.StepFeatureData stepIndex = orderedFeatures.get(decorationIndex);
-                        for (Holder<PlacedFeature> holder : featuresPerBiomeAtStep)
-                        {
-                            featureIndices.add(stepIndex.indexMapping().applyAsInt(holder.value()));
-                        }
-                    }
-                }
-
-                final int[] sortedIndices = featureIndices.toIntArray();
                 final BiomeSource.StepFeatureData step = orderedFeatures.get(decorationIndex);
-
-                Arrays.sort(sortedIndices);
-                for (int featureIndex : sortedIndices)
+                for (int featureIndex : featureIndicesPerStep[decorationIndex])
                 {
                     final PlacedFeature feature = step.features().get(featureIndex);
                     Helpers.seedLargeFeatures(random, baseSeed, featureIndex, decorationIndex);
@@ -587,6 +582,58 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         level.setCurrentlyGenerating(null);
     }
 
+    /**
+     * @return The indices of placed features to decorate a chunk with, for each decoration step, sorted. This only depends on the set of biomes in, or adjacent to, the chunk, and there are very few distinct sets in practice, so the result is cached.
+     */
+    private int[][] getFeatureIndicesPerStep(WorldGenLevel level, Set<Biome> adjacentBiomes)
+    {
+        int[][] featureIndicesPerStep = featureIndicesCache.get(adjacentBiomes);
+        if (featureIndicesPerStep == null)
+        {
+            final List<BiomeSource.StepFeatureData> orderedFeatures = customBiomeSource.featuresPerStep();
+            featureIndicesPerStep = new int[orderedFeatures.size()][];
+            for (int decorationIndex = 0; decorationIndex < orderedFeatures.size(); decorationIndex++)
+            {
+                final IntSet featureIndices = new IntArraySet();
+                final BiomeSource.StepFeatureData stepIndex = orderedFeatures.get(decorationIndex);
+                for (Biome biome : adjacentBiomes)
+                {
+                    final List<HolderSet<PlacedFeature>> featuresPerBiome = TFCBiomes.getExtensionOrThrow(level, biome).getFlattenedFeatures(biome);
+                    if (decorationIndex < featuresPerBiome.size())
+                    {
+                        for (Holder<PlacedFeature> holder : featuresPerBiome.get(decorationIndex))
+                        {
+                            featureIndices.add(stepIndex.indexMapping().applyAsInt(holder.value()));
+                        }
+                    }
+                }
+
+                final int[] sortedIndices = featureIndices.toIntArray();
+                Arrays.sort(sortedIndices);
+                featureIndicesPerStep[decorationIndex] = sortedIndices;
+            }
+
+            // The set of biomes is not modified after this point, so it is safe to use as a key
+            if (featureIndicesCache.size() < MAX_FEATURE_INDICES_CACHE_SIZE)
+            {
+                featureIndicesCache.put(adjacentBiomes, featureIndicesPerStep);
+            }
+        }
+        return featureIndicesPerStep;
+    }
+
+    private Map<Integer, List<ConfiguredStructureFeature<?, ?>>> getStructureFeaturesByStep(Registry<ConfiguredStructureFeature<?, ?>> structureFeatures)
+    {
+        Map<Integer, List<ConfiguredStructureFeature<?, ?>>> structureFeaturesByStep = this.structureFeaturesByStep;
+        if (structureFeaturesByStep == null)
+        {
+            // Registries are frozen by the time any chunk is decorated, so this only needs to be computed once
+            structureFeaturesByStep = this.structureFeaturesByStep = structureFeatures.stream()
+                .collect(Collectors.groupingBy(feature -> feature.feature.step().ordinal()));
+        }
+        return structureFeaturesByStep;
+    }
+
     @Override
     public CompletableFuture<ChunkAccess> fillFromNoise(Executor mainExecutor, Blender oldTerrainBlender, StructureFeatureManager structureFeatureManager, ChunkAccess chunk)
     {
@@ -640,8 +687,16 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
     @Override
     public int getBaseHeight(int x, int z, Heightmap.Types type, LevelHeightAccessor level)
     {
-        final ChunkPos pos = new ChunkPos(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z));
-        return (int) createHeightFillerForChunk(pos).sampleHeight(x, z);
+        final int chunkX = SectionPos.blockToSectionCoord(x), chunkZ = SectionPos.blockToSectionCoord(z);
+
+        double[] heights = baseHeightCache.getIfPresent(chunkX, chunkZ);
+        if (heights == null)
+        {
+            heights = sampleBaseHeights(new ChunkPos(chunkX, chunkZ));
+            baseHeightCache.set(chunkX, chunkZ, heights);
+        }
+
+        return (int) ChunkHeightFiller.interpolateQuartHeights(heights, x & 15, z & 15);
     }
 
     @Override
@@ -711,6 +766,26 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         return new ChunkHeightFiller(createBiomeSamplersForChunk(), biomeWeights);
     }
 
+    /**
+     * Structures query {@link #getBaseHeight(int, int, Heightmap.Types, LevelHeightAccessor)} many times within the same area, and sampling biome weights for every query is expensive.
+     * Instead, we sample the height once at each quart position (including the far edges) of a chunk, and interpolate between them. See {@link ChunkHeightFiller#interpolateQuartHeights(double[], int, int)} for the error this introduces.
+     *
+     * @return A 5x5 grid of heights, at quart pos resolution, indexed by {@code x + 5 * z}.
+     */
+    private double[] sampleBaseHeights(ChunkPos pos)
+    {
+        final ChunkHeightFiller filler = createHeightFillerForChunk(pos);
+        final double[] heights = new double[5 * 5];
+        for (int x = 0; x < 5; x++)
+        {
+            for (int z = 0; z < 5; z++)
+            {
+                heights[x + 5 * z] = filler.sampleHeightAtQuart(pos.getMinBlockX(), pos.getMinBlockZ(), x, z);
+            }
+        }
+        return heights;
+    }
+
     private ChunkBaseBlockSource createBaseBlockSourceForChunk(ChunkAccess chunk)
     {
         final RockData rockData = chunkDataProvider.get(chunk).getRockData();
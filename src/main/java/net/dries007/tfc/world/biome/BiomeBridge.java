@@ -6,7 +6,7 @@
 
 package net.dries007.tfc.world.biome;
 
-import java.util.function.Supplier;
+import java.util.function.BiFunction;
 
 import net.minecraft.world.level.CommonLevelAccessor;
 import net.minecraft.world.level.biome.Biome;
@@ -22,5 +22,5 @@ import org.jetbrains.annotations.Nullable;
 public interface BiomeBridge
 {
     @Nullable
-    BiomeExtension tfc$getExtension(Supplier<BiomeExtension> init);
+    BiomeExtension tfc$getExtension(CommonLevelAccessor level, BiFunction<CommonLevelAccessor, Biome, BiomeExtension> init);
 }
@@ -49,6 +49,11 @@ public class RegionBiomeSource extends TFCBiomeSource
         this.biomeLayer = new ConcurrentArea<>(TFCLayers.createRegionBiomeLayerWithRivers(regionGenerator, random.nextLong()), TFCLayers::getFromLayerId);
     }
 
+    public RegionGenerator getRegionGenerator()
+    {
+        return regionGenerator;
+    }
+
     @Override
     public BiomeExtension getNoiseBiomeVariants(int quartX, int quartZ)
     {
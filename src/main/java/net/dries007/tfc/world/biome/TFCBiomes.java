@@ -99,7 +99,7 @@ public final class TFCBiomes
     @SuppressWarnings("ConstantConditions")
     public static BiomeExtension getExtension(CommonLevelAccessor level, Biome biome)
     {
-        return ((BiomeBridge) (Object) biome).tfc$getExtension(() -> findExtension(level, biome));
+        return ((BiomeBridge) (Object) biome).tfc$getExtension(level, TFCBiomes::findExtension); // Not a capturing lambda, as this is queried many times per frame
     }
 
     public static Collection<ResourceKey<Biome>> getAllKeys()
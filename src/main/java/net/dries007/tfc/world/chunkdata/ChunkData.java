@@ -10,6 +10,7 @@ import java.util.Objects;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.world.level.ChunkPos;
@@ -34,20 +35,25 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
 
     public static ChunkData get(LevelReader level, BlockPos pos)
     {
-        return get(level, new ChunkPos(pos));
+        return get(level, SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+    }
+
+    public static ChunkData get(LevelReader level, ChunkPos pos)
+    {
+        return get(level, pos.x, pos.z);
     }
 
     /**
      * Called to get chunk data when a world context is available.
      */
     @SuppressWarnings("deprecation")
-    public static ChunkData get(LevelReader level, ChunkPos pos)
+    public static ChunkData get(LevelReader level, int chunkX, int chunkZ)
     {
         // Query cache first, picking the correct cache for the current logical side
-        ChunkData data = ChunkDataCache.get(level).get(pos);
+        ChunkData data = ChunkDataCache.get(level).get(chunkX, chunkZ);
         if (data == null)
         {
-            return getCapability(level.hasChunk(pos.x, pos.z) ? level.getChunk(pos.getWorldPosition()) : null).orElse(ChunkData.EMPTY);
+            return getCapability(level.hasChunk(chunkX, chunkZ) ? level.getChunk(chunkX, chunkZ) : null).orElse(ChunkData.EMPTY);
         }
         return data;
     }
@@ -209,11 +215,11 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
     }
 
     /**
-     * Create an update packet to send to client with necessary information
+     * Create an update entry, to be sent to the client as part of a {@link ChunkWatchPacket}, with necessary information
      */
-    public ChunkWatchPacket getUpdatePacket()
+    public ChunkWatchPacket.Entry getUpdateEntry()
     {
-        return new ChunkWatchPacket(pos.x, pos.z, rainfallLayer, temperatureLayer, forestType, forestDensity, forestWeirdness, plateTectonicsInfo);
+        return new ChunkWatchPacket.Entry(pos.x, pos.z, rainfallLayer, temperatureLayer, forestType, forestDensity, forestWeirdness, plateTectonicsInfo);
     }
 
     /**
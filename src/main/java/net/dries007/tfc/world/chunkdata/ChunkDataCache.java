@@ -6,39 +6,62 @@
 
 package net.dries007.tfc.world.chunkdata;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
-
+import com.mojang.logging.LogUtils;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.LevelReader;
 import net.minecraftforge.network.PacketDistributor;
 
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.dries007.tfc.network.ChunkWatchPacket;
 import net.dries007.tfc.network.PacketHandler;
 import net.dries007.tfc.util.Helpers;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
 
 /**
  * Sided cache of chunk data instances, for when a world context is unavailable.
  * Automatically synchronized on chunk watch / unwatch events, and updated on chunk load and unload.
  * This is only valid in the overworld.
+ * <p>
+ * This is a concurrent, open addressed hash map, keyed by {@link ChunkPos#asLong(int, int)}. Reads are lock free, and never allocate, as they may come from any thread querying climate. Writes are synchronized, as they only come from chunk load / unload and watch / unwatch, which are infrequent in comparison.
  */
 public final class ChunkDataCache
 {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /**
+     * The maximum size of the client cache. The client cache is only cleared by un-watch packets, so this guards against any that are never received. This is far larger than the number of chunks visible at the maximum render distance.
+     */
+    private static final int CLIENT_MAX_SIZE = 1 << 14;
+
+    private static final int MIN_CAPACITY = 256;
+    private static final Entry TOMBSTONE = new Entry(Long.MIN_VALUE, null);
+
     /**
      * This is a cache of client side chunk data, used for when there is no world context available.
      * It is synced on chunk watch / unwatch
      */
-    public static final ChunkDataCache CLIENT = new ChunkDataCache("client");
+    public static final ChunkDataCache CLIENT = new ChunkDataCache("client", CLIENT_MAX_SIZE);
 
     /**
      * This is a cache of server side chunk data.
      * It is not synced, it is updated on chunk load / unload
      */
-    public static final ChunkDataCache SERVER = new ChunkDataCache("server");
+    public static final ChunkDataCache SERVER = new ChunkDataCache("server", Integer.MAX_VALUE);
 
     /**
      * This is a set of chunk positions which have been queued for chunk watch, but were not loaded or generated at the time.
@@ -46,6 +69,11 @@ public final class ChunkDataCache
      */
     public static final WatchQueue WATCH_QUEUE = new WatchQueue();
 
+    /**
+     * This is the set of chunk watches and unwatches for each player, which have not been sent yet. They are sent as a single {@link ChunkWatchPacket} per player, at the end of each server tick.
+     */
+    public static final SyncQueue SYNC_QUEUE = new SyncQueue();
+
     /**
      * Gets the normal (not world gen) cache of chunk data for the current logical side
      */
@@ -54,80 +82,348 @@ public final class ChunkDataCache
         return Helpers.isClientSide(world) ? CLIENT : SERVER;
     }
 
-    private final Map<ChunkPos, ChunkData> cache;
     private final String name;
+    private final int maxSize;
 
-    private ChunkDataCache(String name)
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile AtomicReferenceArray<Entry> entries;
+    private volatile int size;
+    private int tombstones;
+
+    private ChunkDataCache(String name, int maxSize)
     {
         this.name = name;
-        this.cache = new HashMap<>();
+        this.maxSize = maxSize;
+        this.entries = new AtomicReferenceArray<>(MIN_CAPACITY);
     }
 
     @Nullable
     public ChunkData get(ChunkPos pos)
     {
-        return cache.get(pos);
+        return get(pos.toLong());
+    }
+
+    @Nullable
+    public ChunkData get(int chunkX, int chunkZ)
+    {
+        return get(ChunkPos.asLong(chunkX, chunkZ));
+    }
+
+    @Nullable
+    public ChunkData get(long pos)
+    {
+        final AtomicReferenceArray<Entry> entries = this.entries;
+        final int mask = entries.length() - 1;
+        for (int i = (int) HashCommon.mix(pos) & mask; ; i = (i + 1) & mask)
+        {
+            final Entry entry = entries.get(i);
+            if (entry == null)
+            {
+                misses.increment();
+                return null;
+            }
+            if (entry != TOMBSTONE && entry.pos == pos)
+            {
+                hits.increment();
+                return entry.data;
+            }
+        }
     }
 
     @Nullable
     public ChunkData remove(ChunkPos pos)
     {
-        return cache.remove(pos);
+        return remove(pos.toLong());
+    }
+
+    @Nullable
+    public synchronized ChunkData remove(long pos)
+    {
+        final int index = find(entries, pos);
+        if (index != -1)
+        {
+            final ChunkData data = entries.get(index).data;
+            entries.set(index, TOMBSTONE);
+            size--;
+            tombstones++;
+            return data;
+        }
+        return null;
     }
 
     public void update(ChunkPos pos, ChunkData data)
     {
-        cache.put(pos, data);
+        update(pos.toLong(), data);
     }
 
-    public ChunkData computeIfAbsent(ChunkPos pos, Function<ChunkPos, ChunkData> mappingFunction)
+    public synchronized void update(long pos, ChunkData data)
     {
-        return cache.computeIfAbsent(pos, mappingFunction);
+        final int index = find(entries, pos);
+        if (index != -1)
+        {
+            entries.set(index, new Entry(pos, data));
+        }
+        else
+        {
+            insert(pos, data);
+        }
+    }
+
+    public synchronized ChunkData computeIfAbsent(ChunkPos pos, Function<ChunkPos, ChunkData> mappingFunction)
+    {
+        final long key = pos.toLong();
+        final int index = find(entries, key);
+        if (index != -1)
+        {
+            return entries.get(index).data;
+        }
+        final ChunkData data = mappingFunction.apply(pos);
+        insert(key, data);
+        return data;
+    }
+
+    public synchronized void clear()
+    {
+        entries = new AtomicReferenceArray<>(MIN_CAPACITY);
+        size = 0;
+        tombstones = 0;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public long hits()
+    {
+        return hits.sum();
+    }
+
+    public long misses()
+    {
+        return misses.sum();
     }
 
     @Override
     public String toString()
     {
-        return "ChunkDataCache[" + name + ']';
+        return "ChunkDataCache[" + name + ", size=" + size + ", hits=" + hits() + ", misses=" + misses() + ']';
+    }
+
+    private void insert(long pos, ChunkData data)
+    {
+        if (size >= maxSize)
+        {
+            evictFarthestFrom(pos);
+        }
+
+        // Keep the load factor (including tombstones) at or below 1/2, as we use linear probing
+        AtomicReferenceArray<Entry> entries = this.entries;
+        if (2 * (size + tombstones + 1) > entries.length())
+        {
+            entries = rehash(entries, 4 * (size + 1) > entries.length() ? 2 * entries.length() : entries.length());
+        }
+
+        final int mask = entries.length() - 1;
+        int i = (int) HashCommon.mix(pos) & mask;
+        Entry entry;
+        while ((entry = entries.get(i)) != null && entry != TOMBSTONE)
+        {
+            i = (i + 1) & mask;
+        }
+        if (entry == TOMBSTONE)
+        {
+            tombstones--;
+        }
+        entries.set(i, new Entry(pos, data));
+        size++;
+    }
+
+    /**
+     * Removes the quarter of all entries which are the farthest from {@code pos}. Entries are inserted as chunks come into view, so the chunks around the most recent insert are the ones in view, and those far away are the ones which were missed by un-watch packets.
+     * Removed entries are replaced with tombstones, which are dropped by the next rehash.
+     */
+    private void evictFarthestFrom(long pos)
+    {
+        final int centerX = ChunkPos.getX(pos), centerZ = ChunkPos.getZ(pos);
+        final AtomicReferenceArray<Entry> entries = this.entries;
+        final int[] distances = new int[size];
+        int count = 0;
+        for (int i = 0; i < entries.length(); i++)
+        {
+            final Entry entry = entries.get(i);
+            if (entry != null && entry != TOMBSTONE)
+            {
+                distances[count++] = distance(entry.pos, centerX, centerZ);
+            }
+        }
+        Arrays.sort(distances, 0, count);
+
+        final int maxDistance = distances[count - count / 4];
+        int evicted = 0;
+        for (int i = 0; i < entries.length(); i++)
+        {
+            final Entry entry = entries.get(i);
+            if (entry != null && entry != TOMBSTONE && distance(entry.pos, centerX, centerZ) >= maxDistance)
+            {
+                entries.set(i, TOMBSTONE);
+                size--;
+                tombstones++;
+                evicted++;
+            }
+        }
+        LOGGER.warn("{} exceeded the maximum size of {}, evicted {} entries at least {} chunks away", this, maxSize, evicted, maxDistance);
+    }
+
+    private static int distance(long pos, int centerX, int centerZ)
+    {
+        return Math.max(Math.abs(ChunkPos.getX(pos) - centerX), Math.abs(ChunkPos.getZ(pos) - centerZ));
     }
 
+    /**
+     * Builds a new table with all entries of {@code prev}, and no tombstones, and then publishes it. Readers which already hold the previous table still see a consistent view of it.
+     */
+    private AtomicReferenceArray<Entry> rehash(AtomicReferenceArray<Entry> prev, int capacity)
+    {
+        final AtomicReferenceArray<Entry> next = new AtomicReferenceArray<>(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < prev.length(); i++)
+        {
+            final Entry entry = prev.get(i);
+            if (entry != null && entry != TOMBSTONE)
+            {
+                int j = (int) HashCommon.mix(entry.pos) & mask;
+                while (next.get(j) != null)
+                {
+                    j = (j + 1) & mask;
+                }
+                next.set(j, entry);
+            }
+        }
+        this.entries = next;
+        this.tombstones = 0;
+        return next;
+    }
+
+    private static int find(AtomicReferenceArray<Entry> entries, long pos)
+    {
+        final int mask = entries.length() - 1;
+        for (int i = (int) HashCommon.mix(pos) & mask; ; i = (i + 1) & mask)
+        {
+            final Entry entry = entries.get(i);
+            if (entry == null)
+            {
+                return -1;
+            }
+            if (entry != TOMBSTONE && entry.pos == pos)
+            {
+                return i;
+            }
+        }
+    }
+
+    record Entry(long pos, @Nullable ChunkData data) {}
+
     public static class WatchQueue
     {
-        private final Map<ChunkPos, Set<ServerPlayer>> queue;
+        private final Long2ObjectMap<Set<ServerPlayer>> queue;
 
         private WatchQueue()
         {
-            queue = new HashMap<>(256);
+            queue = new Long2ObjectOpenHashMap<>(256);
         }
 
-        public void enqueueUnloadedChunk(ChunkPos pos, ServerPlayer player)
+        public synchronized void enqueueUnloadedChunk(ChunkPos pos, ServerPlayer player)
         {
-            queue.computeIfAbsent(pos, key -> new HashSet<>()).add(player);
+            queue.computeIfAbsent(pos.toLong(), key -> new HashSet<>()).add(player);
         }
 
-        public void dequeueChunk(ChunkPos pos, ServerPlayer player)
+        public synchronized void dequeueChunk(ChunkPos pos, ServerPlayer player)
         {
-            Set<ServerPlayer> players = queue.get(pos);
+            final long key = pos.toLong();
+            final Set<ServerPlayer> players = queue.get(key);
             if (players != null)
             {
                 players.remove(player);
                 if (players.isEmpty())
                 {
-                    queue.remove(pos);
+                    queue.remove(key);
                 }
             }
         }
 
         public void dequeueLoadedChunk(ChunkPos pos, ChunkData data)
         {
-            if (queue.containsKey(pos))
+            final Set<ServerPlayer> players;
+            synchronized (this)
+            {
+                players = queue.remove(pos.toLong());
+            }
+            if (players != null)
             {
-                final Set<ServerPlayer> players = queue.remove(pos);
+                final ChunkWatchPacket.Entry entry = data.getUpdateEntry();
                 for (ServerPlayer player : players)
                 {
-                    PacketHandler.send(PacketDistributor.PLAYER.with(() -> player), data.getUpdatePacket());
+                    SYNC_QUEUE.watch(player, entry);
+                }
+            }
+        }
+    }
+
+    public static class SyncQueue
+    {
+        private final Map<ServerPlayer, Batch> batches;
+
+        private SyncQueue()
+        {
+            batches = new HashMap<>();
+        }
+
+        public synchronized void watch(ServerPlayer player, ChunkWatchPacket.Entry entry)
+        {
+            final long pos = ChunkPos.asLong(entry.chunkX(), entry.chunkZ());
+            final Batch batch = batches.computeIfAbsent(player, key -> new Batch());
+            batch.unwatched.remove(pos);
+            batch.watched.put(pos, entry);
+        }
+
+        public synchronized void unwatch(ServerPlayer player, ChunkPos pos)
+        {
+            // The client may have data for this chunk from a previous tick, so the unwatch is always sent, even if the watch never was
+            final Batch batch = batches.computeIfAbsent(player, key -> new Batch());
+            batch.watched.remove(pos.toLong());
+            batch.unwatched.add(pos.toLong());
+        }
+
+        /**
+         * Sends all pending watches and unwatches, as one packet per player.
+         */
+        public void flush()
+        {
+            final Map<ServerPlayer, Batch> pending;
+            synchronized (this)
+            {
+                if (batches.isEmpty())
+                {
+                    return;
                 }
+                pending = new HashMap<>(batches);
+                batches.clear();
             }
+            pending.forEach((player, batch) -> {
+                if (!player.hasDisconnected())
+                {
+                    PacketHandler.send(PacketDistributor.PLAYER.with(() -> player), new ChunkWatchPacket(new ArrayList<>(batch.watched.values()), batch.unwatched.toLongArray()));
+                }
+            });
+        }
+
+        private static class Batch
+        {
+            final Long2ObjectMap<ChunkWatchPacket.Entry> watched = new Long2ObjectOpenHashMap<>();
+            final LongSet unwatched = new LongOpenHashSet();
         }
     }
-}
\ No newline at end of file
+}
@@ -64,6 +64,22 @@ public class LerpFloatLayer
         return nbt;
     }
 
+    /**
+     * @return The corner values, in the order {@code [NW, NE, SW, SE]}, each multiplied by {@code scale} and rounded to the nearest integer.
+     */
+    public int[] quantize(float scale)
+    {
+        return new int[] {Math.round(valueNW * scale), Math.round(valueNE * scale), Math.round(valueSW * scale), Math.round(valueSE * scale)};
+    }
+
+    /**
+     * The inverse of {@link #quantize(float)}.
+     */
+    public static LerpFloatLayer dequantize(int[] values, float scale)
+    {
+        return new LerpFloatLayer(values[0] / scale, values[1] / scale, values[2] / scale, values[3] / scale);
+    }
+
     public void encode(FriendlyByteBuf buffer)
     {
         buffer.writeFloat(valueNW);
@@ -6,9 +6,15 @@
 
 package net.dries007.tfc.world.chunkdata;
 
+import java.util.ArrayList;
 import java.util.List;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.util.BitStorage;
+import net.minecraft.util.Mth;
+import net.minecraft.util.SimpleBitStorage;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.world.settings.RockLayerSettings;
@@ -16,6 +22,10 @@ import net.dries007.tfc.world.settings.RockSettings;
 
 import static net.dries007.tfc.world.TFCChunkGenerator.*;
 
+/**
+ * The rock layers of a single chunk. Each layer is stored as a {@link Layer}, a per-chunk palette of rocks, with bit packed indices into that palette.
+ * Most chunks only contain one or two distinct rocks per layer, so this is much smaller than a full array of rocks. Estimated from the object layouts (with compressed oops, not measured), a chunk takes ~0.5 - 0.9 KB, compared to ~4.2 KB for three arrays of rocks.
+ */
 public class RockData
 {
     private static final int SIZE = 16 * 16;
@@ -25,14 +35,29 @@ public class RockData
         return (x & 15) | ((z & 15) << 4);
     }
 
-    private final RockSettings[] bottomLayer;
-    private final RockSettings[] middleLayer;
-    private final RockSettings[] topLayer;
-    private final int[] rockLayerHeight;
+    private static byte[] packHeight(int[] height)
+    {
+        final byte[] packed = new byte[SIZE];
+        for (int i = 0; i < SIZE; i++)
+        {
+            packed[i] = (byte) height[i];
+        }
+        return packed;
+    }
+
+    private final Layer bottomLayer;
+    private final Layer middleLayer;
+    private final Layer topLayer;
+    private final byte[] rockLayerHeight;
 
     private int @Nullable [] surfaceHeight;
 
     public RockData(RockSettings[] bottomLayer, RockSettings[] middleLayer, RockSettings[] topLayer, int[] rockLayerHeight)
+    {
+        this(Layer.of(bottomLayer), Layer.of(middleLayer), Layer.of(topLayer), packHeight(rockLayerHeight));
+    }
+
+    public RockData(Layer bottomLayer, Layer middleLayer, Layer topLayer, byte[] rockLayerHeight)
     {
         this.bottomLayer = bottomLayer;
         this.middleLayer = middleLayer;
@@ -43,15 +68,11 @@ public class RockData
 
     public RockData(CompoundTag nbt, RockLayerSettings settings)
     {
-        this.bottomLayer = new RockSettings[SIZE];
-        this.middleLayer = new RockSettings[SIZE];
-        this.topLayer = new RockSettings[SIZE];
-
-        read(bottomLayer, nbt.getIntArray("bottomLayer"), settings);
-        read(middleLayer, nbt.getIntArray("middleLayer"), settings);
-        read(topLayer, nbt.getIntArray("topLayer"), settings);
+        this.bottomLayer = Layer.read(nbt, "bottomLayer", settings);
+        this.middleLayer = Layer.read(nbt, "middleLayer", settings);
+        this.topLayer = Layer.read(nbt, "topLayer", settings);
 
-        rockLayerHeight = nbt.getIntArray("height");
+        rockLayerHeight = packHeight(nbt.getIntArray("height"));
         surfaceHeight = nbt.contains("surfaceHeight") ? nbt.getIntArray("surfaceHeight") : null;
     }
 
@@ -69,21 +90,21 @@ public class RockData
         final int rh = rockLayerHeight[i];
         if (y > (int) (SEA_LEVEL_Y + 46 - 0.2 * sh + rh)) // todo: un-hardcode these, keep a sea level reference held by the rock data instance.
         {
-            return topLayer[i];
+            return topLayer.get(i);
         }
         else if (y > (int) (SEA_LEVEL_Y - 34 - 0.2 * sh + rh))
         {
-            return middleLayer[i];
+            return middleLayer.get(i);
         }
         else
         {
-            return bottomLayer[i];
+            return bottomLayer.get(i);
         }
     }
 
     public RockSettings getBottomRock(int x, int z)
     {
-        return bottomLayer[index(x, z)];
+        return bottomLayer.get(index(x, z));
     }
 
     public void setSurfaceHeight(int[] surfaceHeightMap)
@@ -95,12 +116,16 @@ public class RockData
     {
         final CompoundTag nbt = new CompoundTag();
 
-        // Record the raw byte values
-        nbt.putIntArray("bottomLayer", write(bottomLayer, settings));
-        nbt.putIntArray("middleLayer", write(middleLayer, settings));
-        nbt.putIntArray("topLayer", write(topLayer, settings));
+        nbt.put("bottomLayer", bottomLayer.write(settings));
+        nbt.put("middleLayer", middleLayer.write(settings));
+        nbt.put("topLayer", topLayer.write(settings));
 
-        nbt.putIntArray("height", rockLayerHeight);
+        final int[] height = new int[SIZE];
+        for (int i = 0; i < SIZE; i++)
+        {
+            height[i] = rockLayerHeight[i];
+        }
+        nbt.putIntArray("height", height);
         if (surfaceHeight != null)
         {
             nbt.putIntArray("surfaceHeight", surfaceHeight);
@@ -108,25 +133,113 @@ public class RockData
         return nbt;
     }
 
-    private int[] write(RockSettings[] layer, RockLayerSettings settings)
+    /**
+     * A single rock layer of a chunk. If there is only a single rock in the layer, no indices are stored at all.
+     */
+    public static final class Layer
     {
-        final int[] array = new int[SIZE];
-        final List<RockSettings> palette = settings.getRocks();
-        for (int i = 0; i < array.length; i++)
+        /**
+         * @param rocks  A list of rocks.
+         * @param values Indices into {@code rocks}, for each position in the chunk, indexed by {@code x + 16 * z}.
+         */
+        public static Layer of(List<RockSettings> rocks, int[] values)
         {
-            array[i] = palette.indexOf(layer[i]); // indexOf() is O(n) but should be fast enough for our purposes, this isn't called that often
+            // Only a handful of distinct values are expected, so a linear search is fine here
+            final IntArrayList distinct = new IntArrayList(4);
+            for (int i = 0; i < SIZE; i++)
+            {
+                if (!distinct.contains(values[i]))
+                {
+                    distinct.add(values[i]);
+                }
+            }
+
+            final RockSettings[] palette = new RockSettings[distinct.size()];
+            for (int i = 0; i < palette.length; i++)
+            {
+                palette[i] = rocks.get(distinct.getInt(i));
+            }
+
+            if (palette.length == 1)
+            {
+                return new Layer(palette, null);
+            }
+
+            final BitStorage storage = new SimpleBitStorage(Mth.ceillog2(palette.length), SIZE);
+            for (int i = 0; i < SIZE; i++)
+            {
+                storage.set(i, distinct.indexOf(values[i]));
+            }
+            return new Layer(palette, storage);
         }
-        return array;
-    }
 
-    private void read(RockSettings[] layer, int[] data, RockLayerSettings settings)
-    {
-        assert data.length == SIZE;
+        /**
+         * @param values The rock for each position in the chunk, indexed by {@code x + 16 * z}.
+         */
+        public static Layer of(RockSettings[] values)
+        {
+            final List<RockSettings> rocks = new ArrayList<>(4);
+            final int[] indices = new int[SIZE];
+            for (int i = 0; i < SIZE; i++)
+            {
+                int index = rocks.indexOf(values[i]);
+                if (index == -1)
+                {
+                    index = rocks.size();
+                    rocks.add(values[i]);
+                }
+                indices[i] = index;
+            }
+            return of(rocks, indices);
+        }
+
+        static Layer read(CompoundTag nbt, String key, RockLayerSettings settings)
+        {
+            final List<RockSettings> rocks = settings.getRocks();
+            if (nbt.contains(key, Tag.TAG_INT_ARRAY))
+            {
+                // Legacy format, an array of indices into the list of all rocks
+                return of(rocks, nbt.getIntArray(key));
+            }
+
+            final CompoundTag tag = nbt.getCompound(key);
+            final int[] paletteIds = tag.getIntArray("palette");
+            final RockSettings[] palette = new RockSettings[paletteIds.length];
+            for (int i = 0; i < palette.length; i++)
+            {
+                palette[i] = rocks.get(paletteIds[i]);
+            }
+            return new Layer(palette, palette.length == 1 ? null : new SimpleBitStorage(Mth.ceillog2(palette.length), SIZE, tag.getLongArray("data")));
+        }
+
+        private final RockSettings[] palette;
+        private final @Nullable BitStorage storage;
+
+        private Layer(RockSettings[] palette, @Nullable BitStorage storage)
+        {
+            this.palette = palette;
+            this.storage = storage;
+        }
+
+        public RockSettings get(int index)
+        {
+            return storage == null ? palette[0] : palette[storage.get(index)];
+        }
 
-        final List<RockSettings> palette = settings.getRocks();
-        for (int i = 0; i < data.length; i++)
+        CompoundTag write(RockLayerSettings settings)
         {
-            layer[i] = palette.get(data[i]);
+            final CompoundTag nbt = new CompoundTag();
+            final int[] paletteIds = new int[palette.length];
+            for (int i = 0; i < palette.length; i++)
+            {
+                paletteIds[i] = settings.getRocks().indexOf(palette[i]); // Only a handful of entries per layer, so indexOf() is fine
+            }
+            nbt.putIntArray("palette", paletteIds);
+            if (storage != null)
+            {
+                nbt.putLongArray("data", storage.getRaw());
+            }
+            return nbt;
         }
     }
-}
\ No newline at end of file
+}
@@ -37,6 +37,8 @@ public class TFCChunkDataGenerator implements ChunkDataGenerator
     }
 
     private final ConcurrentArea<RockSettings> bottomRockLayer, middleRockLayer, topRockLayer;
+    private final List<RockSettings> bottomRocks, middleRocks, topRocks;
+    private final ThreadLocal<int[]> rockLayerBuffer = ThreadLocal.withInitial(() -> new int[16 * 16]);
     private final ConcurrentArea<ForestType> forestTypeLayer;
 
     private final Noise2D temperatureNoise;
@@ -57,9 +59,13 @@ public class TFCChunkDataGenerator implements ChunkDataGenerator
         final Random random = new Random(worldSeed);
         random.setSeed(worldSeed ^ random.nextLong());
 
-        this.bottomRockLayer = createRockLayer(random, rockLayerSettings, rockLayerSettings.getRocksForLayer(RockLayer.BOTTOM));
-        this.middleRockLayer = createRockLayer(random, rockLayerSettings, rockLayerSettings.getRocksForLayer(RockLayer.MIDDLE));
-        this.topRockLayer = createRockLayer(random, rockLayerSettings, rockLayerSettings.getRocksForLayer(RockLayer.TOP));
+        this.bottomRocks = rockLayerSettings.getRocksForLayer(RockLayer.BOTTOM);
+        this.middleRocks = rockLayerSettings.getRocksForLayer(RockLayer.MIDDLE);
+        this.topRocks = rockLayerSettings.getRocksForLayer(RockLayer.TOP);
+
+        this.bottomRockLayer = createRockLayer(random, rockLayerSettings, bottomRocks);
+        this.middleRockLayer = createRockLayer(random, rockLayerSettings, middleRocks);
+        this.topRockLayer = createRockLayer(random, rockLayerSettings, topRocks);
 
         this.layerHeightNoise = new OpenSimplex2D(random.nextInt()).octaves(2).scaled(-10, 10).spread(0.03f);
 
@@ -109,20 +115,18 @@ public class TFCChunkDataGenerator implements ChunkDataGenerator
         final float forestDensity = forestDensityNoise.noise(chunkX + 8, chunkZ + 8);
 
         // Rocks
-        final RockSettings[] bottomLayer = new RockSettings[256];
-        final RockSettings[] middleLayer = new RockSettings[256];
-        final RockSettings[] topLayer = new RockSettings[256];
-        final int[] rockLayerHeight = new int[256];
-
-        for (int x = 0; x < 16; x++)
+        // Each layer is computed for the whole chunk at once, into a shared buffer, and then stored as a palette
+        final int[] buffer = rockLayerBuffer.get();
+        final RockData.Layer bottomLayer = fillRockLayer(bottomRockLayer, bottomRocks, chunkX, chunkZ, buffer);
+        final RockData.Layer middleLayer = fillRockLayer(middleRockLayer, middleRocks, chunkX, chunkZ, buffer);
+        final RockData.Layer topLayer = fillRockLayer(topRockLayer, topRocks, chunkX, chunkZ, buffer);
+        final byte[] rockLayerHeight = new byte[16 * 16];
+
+        for (int z = 0; z < 16; z++)
         {
-            for (int z = 0; z < 16; z++)
+            for (int x = 0; x < 16; x++)
             {
-                bottomLayer[x + 16 * z] = bottomRockLayer.get(chunkX + x, chunkZ + z);
-                middleLayer[x + 16 * z] = middleRockLayer.get(chunkX + x, chunkZ + z);
-                topLayer[x + 16 * z] = topRockLayer.get(chunkX + x, chunkZ + z);
-
-                rockLayerHeight[x + 16 * z] = (int) layerHeightNoise.noise(chunkX + x, chunkZ + z);
+                rockLayerHeight[x + 16 * z] = (byte) layerHeightNoise.noise(chunkX + x, chunkZ + z); // In [-10, 10]
             }
         }
 
@@ -132,4 +136,10 @@ public class TFCChunkDataGenerator implements ChunkDataGenerator
         data.setPlateTectonicsInfo(plateTectonicsInfo.get(data.getPos().x, data.getPos().z));
         data.setRockData(new RockData(bottomLayer, middleLayer, topLayer, rockLayerHeight));
     }
+
+    private RockData.Layer fillRockLayer(ConcurrentArea<RockSettings> layer, List<RockSettings> rocks, int chunkX, int chunkZ, int[] buffer)
+    {
+        layer.fillRaw(chunkX, chunkZ, 16, 16, buffer);
+        return RockData.Layer.of(rocks, buffer);
+    }
 }
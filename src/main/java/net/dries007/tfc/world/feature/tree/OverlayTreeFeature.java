@@ -12,10 +12,8 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
-import net.minecraft.world.level.levelgen.structure.templatesystem.BlockRotProcessor;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureManager;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructurePlaceSettings;
-import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
 
 import com.mojang.serialization.Codec;
 
@@ -38,8 +36,8 @@ public class OverlayTreeFeature extends TreeFeature<OverlayTreeConfig>
         final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos().set(pos);
         final StructureManager manager = TreeHelpers.getStructureManager(level);
         final StructurePlaceSettings settings = TreeHelpers.getPlacementSettings(level, chunkPos, random);
-        final StructureTemplate structureBase = manager.getOrCreate(config.base());
-        final StructureTemplate structureOverlay = manager.getOrCreate(config.overlay());
+        final TreeTemplate structureBase = TreeHelpers.getTemplate(manager, config.base());
+        final TreeTemplate structureOverlay = TreeHelpers.getTemplate(manager, config.overlay());
 
         if (TreeHelpers.isValidLocation(level, pos, settings, config.placement()))
         {
@@ -48,9 +46,8 @@ public class OverlayTreeFeature extends TreeFeature<OverlayTreeConfig>
                 mutablePos.move(0, height, 0);
             });
 
-            TreeHelpers.placeTemplate(structureBase, settings, level, mutablePos.subtract(TreeHelpers.transformCenter(structureBase.getSize(), settings)));
-            settings.addProcessor(new BlockRotProcessor(config.overlayIntegrity()));
-            TreeHelpers.placeTemplate(structureOverlay, settings, level, mutablePos.subtract(TreeHelpers.transformCenter(structureOverlay.getSize(), settings)));
+            TreeHelpers.placeTemplate(structureBase, settings, level, mutablePos.subtract(TreeHelpers.transformCenter(structureBase.size(), settings)));
+            TreeHelpers.placeTemplate(structureOverlay, settings, level, mutablePos.subtract(TreeHelpers.transformCenter(structureOverlay.size(), settings)), config.overlayIntegrity());
             return true;
         }
         return false;
@@ -15,11 +15,9 @@ import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureManager;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructurePlaceSettings;
-import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
 
 import com.mojang.serialization.Codec;
 import net.dries007.tfc.TerraFirmaCraft;
-import net.dries007.tfc.mixin.accessor.StructureTemplateAccessor;
 
 public class RandomTreeFeature extends TreeFeature<RandomTreeConfig>
 {
@@ -41,8 +39,8 @@ public class RandomTreeFeature extends TreeFeature<RandomTreeConfig>
         final StructureManager manager = TreeHelpers.getStructureManager(level);
         final StructurePlaceSettings settings = TreeHelpers.getPlacementSettings(level, chunkPos, random);
         final ResourceLocation structureId = config.structureNames().get(random.nextInt(config.structureNames().size()));
-        final StructureTemplate structure = manager.getOrCreate(structureId);
-        if (((StructureTemplateAccessor) structure).accessor$getPalettes().isEmpty())
+        final TreeTemplate structure = TreeHelpers.getTemplate(manager, structureId);
+        if (structure.isEmpty())
         {
             throw new IllegalStateException("Empty structure: " + structureId);
         }
@@ -54,7 +52,7 @@ public class RandomTreeFeature extends TreeFeature<RandomTreeConfig>
                 mutablePos.move(0, height, 0);
             });
 
-            TreeHelpers.placeTemplate(structure, settings, level, mutablePos.subtract(TreeHelpers.transformCenter(structure.getSize(), settings)));
+            TreeHelpers.placeTemplate(structure, settings, level, mutablePos.subtract(TreeHelpers.transformCenter(structure.size(), settings)));
             return true;
         }
         return false;
@@ -15,7 +15,6 @@ import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureManager;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructurePlaceSettings;
-import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
 
 import com.mojang.serialization.Codec;
 
@@ -52,9 +51,9 @@ public class StackedTreeFeature extends TreeFeature<StackedTreeConfig>
                 for (int i = 0; i < layerCount; i++)
                 {
                     final ResourceLocation structureId = layer.templates().get(random.nextInt(layer.templates().size()));
-                    final StructureTemplate structure = manager.getOrCreate(structureId);
-                    TreeHelpers.placeTemplate(structure, settings, level, mutablePos.subtract(TreeHelpers.transformCenter(structure.getSize(), settings)));
-                    mutablePos.move(0, structure.getSize().getY(), 0);
+                    final TreeTemplate structure = TreeHelpers.getTemplate(manager, structureId);
+                    TreeHelpers.placeTemplate(structure, settings, level, mutablePos.subtract(TreeHelpers.transformCenter(structure.size(), settings)));
+                    mutablePos.move(0, structure.size().getY(), 0);
                 }
             }
             return true;
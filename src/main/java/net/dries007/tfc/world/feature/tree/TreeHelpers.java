@@ -6,13 +6,12 @@
 
 package net.dries007.tfc.world.feature.tree;
 
-import java.util.List;
 import java.util.Random;
 import java.util.function.Predicate;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Vec3i;
-import net.minecraft.tags.BlockTags;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.world.level.*;
 import net.minecraft.world.level.block.Mirror;
@@ -33,8 +32,6 @@ import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blocks.RiverWaterBlock;
 import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.common.fluids.TFCFluids;
-import net.dries007.tfc.mixin.accessor.StructureTemplateAccessor;
-import net.dries007.tfc.util.EnvironmentHelpers;
 import net.dries007.tfc.util.Helpers;
 
 /**
@@ -145,27 +142,35 @@ public final class TreeHelpers
 
     /**
      * A variant of {@link StructureTemplate#placeInWorld(ServerLevelAccessor, BlockPos, BlockPos, StructurePlaceSettings, Random, int)} that is much simpler and faster for use in tree generation
-     * Allows replacing leaves and air blocks
+     * Allows replacing leaves and air blocks. The only processor respected is ignoring air and structure blocks, as added by {@link #getPlacementSettings(LevelHeightAccessor, ChunkPos, Random)}.
+     */
+    public static void placeTemplate(TreeTemplate template, StructurePlaceSettings placementIn, LevelAccessor level, BlockPos pos)
+    {
+        template.place(level, pos, placementIn, 1f);
+    }
+
+    /**
+     * As {@link #placeTemplate(TreeTemplate, StructurePlaceSettings, LevelAccessor, BlockPos)}, but each block is only placed with a chance of {@code integrity}.
+     */
+    public static void placeTemplate(TreeTemplate template, StructurePlaceSettings placementIn, LevelAccessor level, BlockPos pos, float integrity)
+    {
+        template.place(level, pos, placementIn, integrity);
+    }
+
+    /**
+     * As {@link #placeTemplate(TreeTemplate, StructurePlaceSettings, LevelAccessor, BlockPos)}, for a template which has not been compiled yet. It is compiled on first use, and cached.
      */
     public static void placeTemplate(StructureTemplate template, StructurePlaceSettings placementIn, LevelAccessor level, BlockPos pos)
     {
-        final List<StructureTemplate.StructureBlockInfo> transformedBlockInfos = placementIn.getRandomPalette(((StructureTemplateAccessor) template).accessor$getPalettes(), pos).blocks();
-        BoundingBox boundingBox = placementIn.getBoundingBox();
-        for (StructureTemplate.StructureBlockInfo blockInfo : StructureTemplate.processBlockInfos(level, pos, pos, placementIn, transformedBlockInfos, template))
-        {
-            BlockPos posAt = blockInfo.pos;
-            if (boundingBox == null || boundingBox.isInside(posAt))
-            {
-                BlockState stateAt = level.getBlockState(posAt);
-                if (EnvironmentHelpers.isWorldgenReplaceable(stateAt) || Helpers.isBlock(stateAt.getBlock(), BlockTags.LEAVES))
-                {
-                    // No world, can't rotate with world context
-                    @SuppressWarnings("deprecation")
-                    BlockState stateReplace = blockInfo.state.mirror(placementIn.getMirror()).rotate(placementIn.getRotation());
-                    level.setBlock(posAt, stateReplace, 2);
-                }
-            }
-        }
+        placeTemplate(TreeTemplate.get(template), placementIn, level, pos);
+    }
+
+    /**
+     * As {@link #placeTemplate(TreeTemplate, StructurePlaceSettings, LevelAccessor, BlockPos, float)}, for a template which has not been compiled yet. It is compiled on first use, and cached.
+     */
+    public static void placeTemplate(StructureTemplate template, StructurePlaceSettings placementIn, LevelAccessor level, BlockPos pos, float integrity)
+    {
+        placeTemplate(TreeTemplate.get(template), placementIn, level, pos, integrity);
     }
 
     /**
@@ -199,6 +204,11 @@ public final class TreeHelpers
         return level.getLevel().getServer().getStructureManager();
     }
 
+    public static TreeTemplate getTemplate(StructureManager manager, ResourceLocation id)
+    {
+        return TreeTemplate.get(manager.getOrCreate(id));
+    }
+
     /**
      * Constructs a placement settings instance useful for tree generation
      * Applies a random rotation and mirror
@@ -0,0 +1,154 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.feature.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Vec3i;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.Mirror;
+import net.minecraft.world.level.block.Rotation;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructurePlaceSettings;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
+
+import net.dries007.tfc.mixin.accessor.StructureTemplateAccessor;
+import net.dries007.tfc.util.EnvironmentHelpers;
+import net.dries007.tfc.util.Helpers;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * A {@link StructureTemplate} precompiled for tree placement. For each palette, and each combination of mirror and rotation, the template is stored as flat arrays of transformed positions and states, with air and structure blocks already removed.
+ * Placement is then a single loop over those arrays, instead of processing, transforming and copying every block of the template each time a tree is placed.
+ * <p>
+ * Templates are compiled once, the first time they are used, and the cache is invalidated on reload, as the structure manager loads new templates.
+ */
+public final class TreeTemplate
+{
+    private static final Map<StructureTemplate, TreeTemplate> CACHE = new ConcurrentHashMap<>();
+    private static final Mirror[] MIRRORS = Mirror.values();
+    private static final Rotation[] ROTATIONS = Rotation.values();
+
+    public static TreeTemplate get(StructureTemplate template)
+    {
+        return CACHE.computeIfAbsent(template, key -> compile(key, ((StructureTemplateAccessor) key).accessor$getPalettes()));
+    }
+
+    /**
+     * Compiles a template, without caching it. The palettes are passed explicitly, as outside a running game the accessor mixin is not applied.
+     */
+    @VisibleForTesting
+    public static TreeTemplate compile(StructureTemplate template, List<StructureTemplate.Palette> palettes)
+    {
+        return new TreeTemplate(template.getSize(), palettes);
+    }
+
+    public static void invalidateAll()
+    {
+        CACHE.clear();
+    }
+
+    private final Vec3i size;
+    private final Variant[][] variants; // [palette][mirror * rotations + rotation]
+
+    private TreeTemplate(Vec3i size, List<StructureTemplate.Palette> palettes)
+    {
+        this.size = size;
+        this.variants = new Variant[palettes.size()][MIRRORS.length * ROTATIONS.length];
+
+        for (int palette = 0; palette < palettes.size(); palette++)
+        {
+            // Equivalent to BlockIgnoreProcessor.STRUCTURE_AND_AIR, which is applied by tree placement settings
+            final List<StructureTemplate.StructureBlockInfo> blocks = new ArrayList<>();
+            for (StructureTemplate.StructureBlockInfo block : palettes.get(palette).blocks())
+            {
+                if (!block.state.is(Blocks.AIR) && !block.state.is(Blocks.STRUCTURE_BLOCK))
+                {
+                    blocks.add(block);
+                }
+            }
+
+            for (Mirror mirror : MIRRORS)
+            {
+                for (Rotation rotation : ROTATIONS)
+                {
+                    final long[] positions = new long[blocks.size()];
+                    final BlockState[] states = new BlockState[blocks.size()];
+                    for (int i = 0; i < positions.length; i++)
+                    {
+                        final StructureTemplate.StructureBlockInfo block = blocks.get(i);
+
+                        // No world, can't rotate with world context
+                        @SuppressWarnings("deprecation")
+                        final BlockState state = block.state.mirror(mirror).rotate(rotation);
+
+                        positions[i] = TreeHelpers.transform(block.pos, mirror, rotation).asLong();
+                        states[i] = state;
+                    }
+                    variants[palette][index(mirror, rotation)] = new Variant(positions, states);
+                }
+            }
+        }
+    }
+
+    public Vec3i size()
+    {
+        return size;
+    }
+
+    public boolean isEmpty()
+    {
+        return variants.length == 0;
+    }
+
+    /**
+     * Places this template, replacing only air, other worldgen replaceable blocks, and leaves.
+     *
+     * @param integrity The chance each block is placed. Equivalent to adding a {@link net.minecraft.world.level.levelgen.structure.templatesystem.BlockRotProcessor}, and consumes randomness from {@code settings} identically.
+     */
+    public void place(LevelAccessor level, BlockPos pos, StructurePlaceSettings settings, float integrity)
+    {
+        final Random random = settings.getRandom(pos);
+        final Variant variant = variants[random.nextInt(variants.length)][index(settings.getMirror(), settings.getRotation())];
+        final BoundingBox boundingBox = settings.getBoundingBox();
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        for (int i = 0; i < variant.positions.length; i++)
+        {
+            if (integrity < 1f && !(random.nextFloat() <= integrity))
+            {
+                continue;
+            }
+
+            final long relativePos = variant.positions[i];
+            cursor.set(pos.getX() + BlockPos.getX(relativePos), pos.getY() + BlockPos.getY(relativePos), pos.getZ() + BlockPos.getZ(relativePos));
+            if (boundingBox == null || boundingBox.isInside(cursor))
+            {
+                final BlockState stateAt = level.getBlockState(cursor);
+                if (EnvironmentHelpers.isWorldgenReplaceable(stateAt) || Helpers.isBlock(stateAt.getBlock(), BlockTags.LEAVES))
+                {
+                    level.setBlock(cursor, variant.states[i], 2);
+                }
+            }
+        }
+    }
+
+    private static int index(Mirror mirror, Rotation rotation)
+    {
+        return mirror.ordinal() * ROTATIONS.length + rotation.ordinal();
+    }
+
+    private record Variant(long[] positions, BlockState[] states) {}
+}
@@ -36,11 +36,9 @@ public final class PLayers
     public static AreaFactory createBiomeLayer(RegionGenerator generator, long seed)
     {
         final Random random = new Random(seed);
-        final TypedAreaFactory<Region.Point> regionLayer = new RegionLayer(generator).apply(random.nextLong());
-
         AreaFactory mainLayer;
 
-        mainLayer = RegionBiomeLayer.INSTANCE.apply(regionLayer);
+        mainLayer = new RegionBiomeLayer(generator).apply(random.nextLong());
 
         // Grid scale
 
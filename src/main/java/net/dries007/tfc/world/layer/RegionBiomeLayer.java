@@ -6,21 +6,22 @@
 
 package net.dries007.tfc.world.layer;
 
-import net.dries007.tfc.world.layer.framework.Area;
-import net.dries007.tfc.world.layer.framework.AreaFactory;
-import net.dries007.tfc.world.layer.framework.TypedArea;
-import net.dries007.tfc.world.layer.framework.TypedAreaFactory;
+import net.dries007.tfc.world.layer.framework.AreaContext;
+import net.dries007.tfc.world.layer.framework.SourceLayer;
 import net.dries007.tfc.world.region.Region;
+import net.dries007.tfc.world.region.RegionGenerator;
 
-public enum RegionBiomeLayer
+/**
+ * Samples the biome of each grid point directly from its region, by index, without creating a {@link Region.Point} for every sample.
+ */
+public record RegionBiomeLayer(RegionGenerator generator) implements SourceLayer
 {
-    INSTANCE;
-
-    public AreaFactory apply(TypedAreaFactory<Region.Point> prev)
+    @Override
+    public int apply(AreaContext context, int x, int z)
     {
-        return () -> {
-            final TypedArea<Region.Point> prevArea = prev.get();
-            return new Area((x, z) -> prevArea.get(x, z).biome, 1024);
-        };
+        final Region region = generator.getOrCreateRegion(x, z);
+        final int index = region.maybeIndex(x, z);
+        assert index != -1 : "Region %s does not contain point at (%d, %d)".formatted(region, x, z);
+        return region.biome(index);
     }
 }
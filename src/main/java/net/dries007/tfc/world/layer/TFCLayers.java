@@ -21,7 +21,6 @@ import net.dries007.tfc.world.layer.framework.AreaFactory;
 import net.dries007.tfc.world.layer.framework.TypedAreaFactory;
 import net.dries007.tfc.world.noise.Cellular2D;
 import net.dries007.tfc.world.noise.OpenSimplex2D;
-import net.dries007.tfc.world.region.Region;
 import net.dries007.tfc.world.region.RegionGenerator;
 import net.dries007.tfc.world.river.Watershed;
 
@@ -343,11 +342,9 @@ public class TFCLayers
     public static AreaFactory createRegionBiomeLayer(RegionGenerator generator, long seed)
     {
         final Random random = new Random(seed);
-        final TypedAreaFactory<Region.Point> regionLayer = new RegionLayer(generator).apply(random.nextLong());
-
         AreaFactory mainLayer;
 
-        mainLayer = RegionBiomeLayer.INSTANCE.apply(regionLayer);
+        mainLayer = new RegionBiomeLayer(generator).apply(random.nextLong());
 
         // Grid scale
 
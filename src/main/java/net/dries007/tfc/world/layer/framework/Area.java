@@ -55,4 +55,19 @@ public class Area
             return value;
         }
     }
+
+    /**
+     * Computes the values of a {@code sizeX * sizeZ} area, starting at {@code (minX, minZ)}, into {@code values}, indexed by {@code x + sizeX * z}.
+     * This bypasses the cache entirely, as a batch of unique positions would only evict other entries without ever being queried again.
+     */
+    public void fill(int minX, int minZ, int sizeX, int sizeZ, int[] values)
+    {
+        for (int z = 0; z < sizeZ; z++)
+        {
+            for (int x = 0; x < sizeX; x++)
+            {
+                values[x + sizeX * z] = source.apply(minX + x, minZ + z);
+            }
+        }
+    }
 }
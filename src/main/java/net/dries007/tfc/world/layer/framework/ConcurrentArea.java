@@ -27,4 +27,14 @@ public class ConcurrentArea<T>
     {
         return mappingFunction.apply(area.get().get(x, z));
     }
+
+    /**
+     * Fills {@code values} with the raw, unmapped, layer values of a {@code sizeX * sizeZ} area. This only queries the thread local once for the entire area.
+     *
+     * @see Area#fill(int, int, int, int, int[])
+     */
+    public void fillRaw(int minX, int minZ, int sizeX, int sizeZ, int[] values)
+    {
+        area.get().fill(minX, minZ, sizeX, sizeZ, values);
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.pregen;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import net.minecraft.world.level.ChunkPos;
+
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.Units;
+
+/**
+ * The order in which chunks are visited by the {@link Pregenerator}. This is every chunk within a square of a given radius, but rather than sweeping outwards ring by ring, which touches every region on each lap, this visits one region cell at a time, outwards from the center.
+ * Within each cell, partitions are visited one at a time, and within each partition, chunks are visited row by row. This keeps consecutive chunks within the same region and partition, where they hit the {@link RegionGenerator} caches.
+ * <p>
+ * The order is deterministic for a given center and radius, so progress can be saved as a single {@link #position()}.
+ */
+public final class PregenOrder
+{
+    private static final int PARTITION_WIDTH_IN_CHUNKS = Units.PARTITION_WIDTH_IN_GRID << (Units.GRID_BITS - 4);
+    private static final int CELL_WIDTH_IN_PARTITION = Units.CELL_WIDTH_IN_PARTITION;
+
+    private final int minX, minZ, maxX, maxZ; // Inclusive, in chunk coordinates
+    private final List<int[]> cells; // Cells, in partition-aligned coordinates, in the order they are visited
+
+    private final long[] buffer; // Chunks within the current partition
+    private int bufferSize, bufferIndex;
+
+    private int cellIndex, partitionIndex;
+    private long position;
+
+    public PregenOrder(int centerX, int centerZ, int radius)
+    {
+        this.minX = centerX - radius;
+        this.minZ = centerZ - radius;
+        this.maxX = centerX + radius;
+        this.maxZ = centerZ + radius;
+
+        final int centerCellX = chunkToCell(centerX), centerCellZ = chunkToCell(centerZ);
+
+        this.cells = new ArrayList<>();
+        for (int cellX = chunkToCell(minX); cellX <= chunkToCell(maxX); cellX++)
+        {
+            for (int cellZ = chunkToCell(minZ); cellZ <= chunkToCell(maxZ); cellZ++)
+            {
+                cells.add(new int[] {cellX, cellZ});
+            }
+        }
+        cells.sort(Comparator.<int[]>comparingInt(c -> Math.max(Math.abs(c[0] - centerCellX), Math.abs(c[1] - centerCellZ)))
+            .thenComparingInt(c -> c[1])
+            .thenComparingInt(c -> c[0]));
+
+        this.buffer = new long[PARTITION_WIDTH_IN_CHUNKS * PARTITION_WIDTH_IN_CHUNKS];
+    }
+
+    /**
+     * @return The total number of chunks in this order.
+     */
+    public long size()
+    {
+        return (long) (1 + maxX - minX) * (1 + maxZ - minZ);
+    }
+
+    /**
+     * @return The number of chunks returned by {@link #next()} so far.
+     */
+    public long position()
+    {
+        return position;
+    }
+
+    public boolean hasNext()
+    {
+        while (bufferIndex >= bufferSize)
+        {
+            if (!fillNextPartition())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The next chunk, as a {@link ChunkPos#toLong()}.
+     */
+    public long next()
+    {
+        if (!hasNext())
+        {
+            throw new IllegalStateException("No more chunks");
+        }
+        position++;
+        return buffer[bufferIndex++];
+    }
+
+    /**
+     * Skips ahead to the given position, i.e. to resume from a saved position.
+     */
+    public void skipTo(long target)
+    {
+        while (position < target && hasNext())
+        {
+            next();
+        }
+    }
+
+    private boolean fillNextPartition()
+    {
+        while (cellIndex < cells.size())
+        {
+            if (partitionIndex >= CELL_WIDTH_IN_PARTITION * CELL_WIDTH_IN_PARTITION)
+            {
+                cellIndex++;
+                partitionIndex = 0;
+                continue;
+            }
+
+            final int[] cell = cells.get(cellIndex);
+            final int partX = cell[0] * CELL_WIDTH_IN_PARTITION + (partitionIndex % CELL_WIDTH_IN_PARTITION);
+            final int partZ = cell[1] * CELL_WIDTH_IN_PARTITION + (partitionIndex / CELL_WIDTH_IN_PARTITION);
+            partitionIndex++;
+
+            final int x0 = Math.max(minX, partX * PARTITION_WIDTH_IN_CHUNKS), x1 = Math.min(maxX, (partX + 1) * PARTITION_WIDTH_IN_CHUNKS - 1);
+            final int z0 = Math.max(minZ, partZ * PARTITION_WIDTH_IN_CHUNKS), z1 = Math.min(maxZ, (partZ + 1) * PARTITION_WIDTH_IN_CHUNKS - 1);
+            if (x0 > x1 || z0 > z1)
+            {
+                continue; // Outside the requested area
+            }
+
+            bufferSize = 0;
+            bufferIndex = 0;
+            for (int z = z0; z <= z1; z++)
+            {
+                for (int x = x0; x <= x1; x++)
+                {
+                    buffer[bufferSize++] = ChunkPos.asLong(x, z);
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static int chunkToCell(int chunk)
+    {
+        return Math.floorDiv(Math.floorDiv(chunk, PARTITION_WIDTH_IN_CHUNKS), CELL_WIDTH_IN_PARTITION);
+    }
+}
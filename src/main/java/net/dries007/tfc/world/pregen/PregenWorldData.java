@@ -0,0 +1,98 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.pregen;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.saveddata.SavedData;
+import org.jetbrains.annotations.Nullable;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * The persisted state of a running {@link Pregenerator}. This is always stored in the overworld, and records the dimension being generated.
+ * The position is a low water mark in the {@link PregenOrder}: every chunk before it has been generated, so a resumed task may redo a few chunks, but never skip any.
+ */
+public class PregenWorldData extends SavedData
+{
+    private static final String NAME = MOD_ID + "_pregen";
+
+    public static PregenWorldData get(ServerLevel overworld)
+    {
+        return overworld.getDataStorage().computeIfAbsent(PregenWorldData::load, PregenWorldData::new, NAME);
+    }
+
+    private static PregenWorldData load(CompoundTag nbt)
+    {
+        final PregenWorldData data = new PregenWorldData();
+        if (nbt.contains("dimension"))
+        {
+            data.dimension = new ResourceLocation(nbt.getString("dimension"));
+            data.centerX = nbt.getInt("centerX");
+            data.centerZ = nbt.getInt("centerZ");
+            data.radius = nbt.getInt("radius");
+            data.position = nbt.getLong("position");
+        }
+        return data;
+    }
+
+    @Nullable private ResourceLocation dimension;
+    private int centerX, centerZ, radius;
+    private long position;
+
+    @Override
+    public CompoundTag save(CompoundTag nbt)
+    {
+        if (dimension != null)
+        {
+            nbt.putString("dimension", dimension.toString());
+            nbt.putInt("centerX", centerX);
+            nbt.putInt("centerZ", centerZ);
+            nbt.putInt("radius", radius);
+            nbt.putLong("position", position);
+        }
+        return nbt;
+    }
+
+    /**
+     * @return The dimension being generated, or {@code null} if there is no task.
+     */
+    @Nullable
+    public ResourceLocation dimension()
+    {
+        return dimension;
+    }
+
+    public int centerX() { return centerX; }
+    public int centerZ() { return centerZ; }
+    public int radius() { return radius; }
+    public long position() { return position; }
+
+    public void start(ResourceLocation dimension, int centerX, int centerZ, int radius)
+    {
+        this.dimension = dimension;
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.radius = radius;
+        this.position = 0;
+        setDirty();
+    }
+
+    public void setPosition(long position)
+    {
+        this.position = position;
+        setDirty();
+    }
+
+    public void clear()
+    {
+        this.dimension = null;
+        this.position = 0;
+        setDirty();
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.pregen;
+
+import java.util.Comparator;
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStartedEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.IEventBus;
+
+import com.mojang.logging.LogUtils;
+import it.unimi.dsi.fastutil.longs.Long2LongRBTreeMap;
+import it.unimi.dsi.fastutil.longs.Long2LongSortedMap;
+import net.dries007.tfc.config.TFCConfig;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * Pre-generates all chunks in a square area of a level, in the background, while the server is running.
+ * <p>
+ * Chunks are requested in the {@link PregenOrder}, with a bounded number in flight at any time, so the chunk generation executors stay busy without flooding the chunk map. No new chunks are requested on any tick where the server's average tick time is over budget.
+ * Progress is saved to {@link PregenWorldData}, and a task is resumed when the server restarts.
+ */
+public final class Pregenerator
+{
+    public static final TicketType<ChunkPos> TICKET = TicketType.create(MOD_ID + ":pregen", Comparator.comparingLong(ChunkPos::toLong));
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final long REPORT_INTERVAL_NANOS = 10_000_000_000L;
+
+    @Nullable private static Pregenerator active;
+
+    public static void init()
+    {
+        final IEventBus bus = MinecraftForge.EVENT_BUS;
+
+        bus.addListener(Pregenerator::onServerStarted);
+        bus.addListener(Pregenerator::onServerStopping);
+        bus.addListener(Pregenerator::onServerTick);
+    }
+
+    /**
+     * @return The running task, or {@code null} if none is running.
+     */
+    @Nullable
+    public static Pregenerator active()
+    {
+        return active;
+    }
+
+    /**
+     * Starts a new task, if none is running.
+     *
+     * @return {@code true} if the task was started.
+     */
+    public static boolean start(ServerLevel level, ChunkPos center, int radius)
+    {
+        if (active != null)
+        {
+            return false;
+        }
+        final PregenWorldData data = PregenWorldData.get(level.getServer().overworld());
+        data.start(level.dimension().location(), center.x, center.z, radius);
+        active = new Pregenerator(level, data);
+        return true;
+    }
+
+    /**
+     * Stops the running task, and discards its progress.
+     *
+     * @return {@code true} if a task was stopped.
+     */
+    public static boolean stop(MinecraftServer server)
+    {
+        if (active == null)
+        {
+            return false;
+        }
+        active.releaseTickets();
+        active = null;
+        PregenWorldData.get(server.overworld()).clear();
+        return true;
+    }
+
+    private static void onServerStarted(ServerStartedEvent event)
+    {
+        final MinecraftServer server = event.getServer();
+        final PregenWorldData data = PregenWorldData.get(server.overworld());
+        final ResourceLocation dimension = data.dimension();
+        if (dimension != null)
+        {
+            final ServerLevel level = server.getLevel(ResourceKey.create(Registry.DIMENSION_REGISTRY, dimension));
+            if (level == null)
+            {
+                LOGGER.warn("Not resuming pre-generation of unknown dimension {}", dimension);
+                data.clear();
+                return;
+            }
+            LOGGER.info("Resuming pre-generation of {} at {} / {} chunks", dimension, data.position(), squareOf(data.radius()));
+            active = new Pregenerator(level, data);
+        }
+    }
+
+    private static void onServerStopping(ServerStoppingEvent event)
+    {
+        // Keep the saved progress, so the task resumes on the next start
+        active = null;
+    }
+
+    private static void onServerTick(TickEvent.ServerTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END && active != null)
+        {
+            active.tick();
+        }
+    }
+
+    private static long squareOf(int radius)
+    {
+        return (long) (2 * radius + 1) * (2 * radius + 1);
+    }
+
+    private final ServerLevel level;
+    private final MinecraftServer server;
+    private final PregenWorldData data;
+    private final PregenOrder order;
+    private final Long2LongSortedMap inFlight; // Position within the order -> chunk, of all chunks which have been requested and not completed
+
+    private final long startPosition;
+    private final long startTime;
+    private long completed;
+    private long failed;
+    private long lastReportTime;
+
+    private Pregenerator(ServerLevel level, PregenWorldData data)
+    {
+        this.level = level;
+        this.server = level.getServer();
+        this.data = data;
+        this.order = new PregenOrder(data.centerX(), data.centerZ(), data.radius());
+        this.inFlight = new Long2LongRBTreeMap();
+
+        order.skipTo(data.position());
+
+        this.startPosition = order.position();
+        this.startTime = this.lastReportTime = System.nanoTime();
+    }
+
+    public Level level() { return level; }
+    public long total() { return order.size(); }
+
+    /**
+     * @return The number of chunks which have been generated, including those from before a restart.
+     */
+    public long generated()
+    {
+        return startPosition + completed;
+    }
+
+    /**
+     * @return The number of chunks which failed to generate, since this task was started or resumed. These are not retried, and not counted as generated.
+     */
+    public long failed()
+    {
+        return failed;
+    }
+
+    /**
+     * @return The average chunks successfully generated per second, since this task was started or resumed.
+     */
+    public double chunksPerSecond()
+    {
+        final double seconds = (System.nanoTime() - startTime) / 1e9;
+        return seconds > 0 ? completed / seconds : 0;
+    }
+
+    /**
+     * @return The estimated seconds until this task is complete, or {@code -1} if it is unknown.
+     */
+    public long etaSeconds()
+    {
+        final double rate = chunksPerSecond();
+        return rate > 0 ? (long) ((total() - generated() - failed) / rate) : -1;
+    }
+
+    private void tick()
+    {
+        if (!order.hasNext() && inFlight.isEmpty())
+        {
+            LOGGER.info("Finished pre-generation of {} chunks in {}", total(), level.dimension().location());
+            active = null;
+            data.clear();
+            return;
+        }
+
+        final long now = System.nanoTime();
+        if (now - lastReportTime > REPORT_INTERVAL_NANOS)
+        {
+            lastReportTime = now;
+            LOGGER.info("Pre-generating {}: {} / {} chunks ({} failed), {} chunks/s, ETA {}s", level.dimension().location(), generated(), total(), failed, "%.1f".formatted(chunksPerSecond()), etaSeconds());
+        }
+
+        if (server.getAverageTickTime() > TFCConfig.COMMON.pregenTickTimeBudget.get())
+        {
+            return; // Over budget, let the server catch up before requesting more
+        }
+
+        final ServerChunkCache chunkSource = level.getChunkSource();
+        final int maxInFlight = TFCConfig.COMMON.pregenChunksInFlight.get();
+        while (inFlight.size() < maxInFlight && order.hasNext())
+        {
+            final long index = order.position();
+            final ChunkPos pos = new ChunkPos(order.next());
+
+            inFlight.put(index, pos.toLong());
+            chunkSource.addRegionTicket(TICKET, pos, 0, pos);
+            chunkSource.getChunkFuture(pos.x, pos.z, ChunkStatus.FULL, true).whenCompleteAsync((result, error) -> {
+                if (error != null)
+                {
+                    complete(pos, index, error.toString());
+                }
+                else
+                {
+                    complete(pos, index, result.right().map(Object::toString).orElse(null));
+                }
+            }, server);
+        }
+    }
+
+    /**
+     * @param failure A description of why the chunk failed to generate, or {@code null} if it generated successfully.
+     */
+    private void complete(ChunkPos pos, long index, @Nullable String failure)
+    {
+        if (active != this)
+        {
+            return; // Stopped while this chunk was in flight
+        }
+
+        level.getChunkSource().removeRegionTicket(TICKET, pos, 0, pos);
+        inFlight.remove(index);
+        if (failure == null)
+        {
+            completed++;
+        }
+        else
+        {
+            LOGGER.warn("Failed to pre-generate chunk {} in {}: {}", pos, level.dimension().location(), failure);
+            failed++;
+        }
+        data.setPosition(inFlight.isEmpty() ? order.position() : inFlight.firstLongKey());
+    }
+
+    private void releaseTickets()
+    {
+        // Chunks in flight may still complete, but they will be ignored, so release their tickets now
+        final ServerChunkCache chunkSource = level.getChunkSource();
+        for (long chunk : inFlight.values())
+        {
+            final ChunkPos pos = new ChunkPos(chunk);
+            chunkSource.removeRegionTicket(TICKET, pos, 0, pos);
+        }
+        inFlight.clear();
+    }
+}
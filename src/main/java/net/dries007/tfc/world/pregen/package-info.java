@@ -0,0 +1,10 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+@ParametersAreNonnullByDefault
+package net.dries007.tfc.world.pregen;
+
+import javax.annotation.ParametersAreNonnullByDefault;
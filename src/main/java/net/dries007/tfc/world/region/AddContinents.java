@@ -25,12 +25,12 @@ public enum AddContinents implements RegionTask
 
                 if (otherCell.x() == context.regionCell.x() && otherCell.y() == context.regionCell.y())
                 {
-                    final Region.Point point = context.region.atInit(gridX, gridZ);
+                    final int index = context.region.atInit(gridX, gridZ);
                     final float continent = context.generator().continentNoise.noise(gridX, gridZ);
 
                     if (continent > 4.4)
                     {
-                        point.setLand();
+                        context.region.setLand(index);
                     }
 
                     if (gridX < context.minX)
@@ -23,20 +23,20 @@ public enum AddIslands implements RegionTask
             int x = region.minX() + random.nextInt(region.sizeX());
             int z = region.minZ() + random.nextInt(region.sizeZ());
 
-            Region.Point point = region.maybeAt(x, z);
-            if (point != null && !point.land() && !point.shore() && point.distanceToEdge > 2)
+            int index = region.maybeIndex(x, z);
+            if (index != -1 && !region.land(index) && !region.shore(index) && region.distanceToEdge[index] > 2)
             {
                 // Place a small island chain
                 for (int island = 0; island < 12; island++)
                 {
-                    point.setLand();
-                    point.setIsland();
+                    region.setLand(index);
+                    region.setIsland(index);
 
                     x += random.nextInt(4) - random.nextInt(4);
                     z += random.nextInt(4) - random.nextInt(4);
 
-                    point = region.maybeAt(x, z);
-                    if (point == null || (point.land() && !point.island()) || point.distanceToEdge <= 2)
+                    index = region.maybeIndex(x, z);
+                    if (index == -1 || (region.land(index) && !region.island(index)) || region.distanceToEdge[index] <= 2)
                     {
                         break;
                     }
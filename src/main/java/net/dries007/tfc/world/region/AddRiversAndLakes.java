@@ -11,7 +11,6 @@ import java.util.List;
 import java.util.Map;
 import net.minecraft.world.level.levelgen.RandomSource;
 import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
-import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.world.river.RiverFractal;
 
@@ -46,8 +45,7 @@ public enum AddRiversAndLakes implements RegionTask
             for (int dz = 0; dz < region.sizeZ(); dz++)
             {
                 final int index = dx + region.sizeX() * dz;
-                final Region.Point point = region.data()[index];
-                if (point != null && point.shore() && context.random.nextInt(3) == 0)
+                if (region.exists(index) && region.shore(index) && context.random.nextInt(3) == 0)
                 {
                     // Mark as a possible river source
                     float bestAngle = findBestStartingAngle(region, context.random, index);
@@ -55,7 +53,7 @@ public enum AddRiversAndLakes implements RegionTask
                     {
                         final XoroshiroRandomSource rng = new XoroshiroRandomSource(context.random.nextLong());
                         riverGenerator.add(new RiverFractal.Builder(rng, region.minX() + dx + 0.5f, region.minZ() + dz + 0.5f, bestAngle, RIVER_LENGTH, RIVER_DEPTH, RIVER_FEATHER));
-                        point.setRiver();
+                        region.setRiver(index);
                     }
                 }
             }
@@ -78,10 +76,9 @@ public enum AddRiversAndLakes implements RegionTask
                 final int dirIndex = region.offset(index, 2 * dirX, 2 * dirZ);
                 if (dirIndex != -1)
                 {
-                    final Region.Point dirPoint = region.data()[dirIndex];
-                    if (dirPoint != null && dirPoint.land())
+                    if (region.exists(dirIndex) && region.land(dirIndex))
                     {
-                        final int dirDistanceMetric = dirPoint.distanceToOcean - Math.abs(dirX) - Math.abs(dirZ);
+                        final int dirDistanceMetric = region.distanceToOcean[dirIndex] - Math.abs(dirX) - Math.abs(dirZ);
                         if (dirDistanceMetric > bestDistanceMetric || (random.nextInt(1 + bestDistanceCount) == 0))
                         {
                             if (dirDistanceMetric > bestDistanceMetric)
@@ -138,10 +135,10 @@ public enum AddRiversAndLakes implements RegionTask
                 final int gridX = Math.round(edge.source().x());
                 final int gridZ = Math.round(edge.source().y());
 
-                final Region.Point point = region.maybeAt(gridX, gridZ);
-                if (point != null && point.distanceToOcean >= 2 && point.land() && random.nextInt(3) == 0)
+                final int index = region.maybeIndex(gridX, gridZ);
+                if (index != -1 && region.distanceToOcean[index] >= 2 && region.land(index) && random.nextInt(3) == 0)
                 {
-                    point.setLake();
+                    region.setLake(index);
                 }
             }
         }
@@ -159,16 +156,15 @@ public enum AddRiversAndLakes implements RegionTask
         @Override
         protected boolean isLegal(RiverFractal.Vertex prev, RiverFractal.Vertex vertex)
         {
-            final Region.Point prevPoint = vertex2Point(prev), newPoint = vertex2Point(vertex);
-            return newPoint != null && prevPoint != null && newPoint.land() && newPoint.distanceToOcean >= prevPoint.distanceToOcean;
+            final int prevIndex = vertex2Index(prev), newIndex = vertex2Index(vertex);
+            return newIndex != -1 && prevIndex != -1 && region.land(newIndex) && region.distanceToOcean[newIndex] >= region.distanceToOcean[prevIndex];
         }
 
-        @Nullable
-        private Region.Point vertex2Point(RiverFractal.Vertex vertex)
+        private int vertex2Index(RiverFractal.Vertex vertex)
         {
             final int gridX = Math.round(vertex.x());
             final int gridZ = Math.round(vertex.y());
-            return region.maybeAt(gridX, gridZ);
+            return region.maybeIndex(gridX, gridZ);
         }
     }
 }
@@ -21,24 +21,24 @@ public enum AnnotateClimate implements RegionTask
         {
             for (int z = region.minZ(); z < region.maxZ(); z++)
             {
-                final Region.Point point = region.maybeAt(x, z);
-                if (point != null)
+                final int index = region.maybeIndex(x, z);
+                if (index != -1)
                 {
                     // Climate is seeded with a base value based on noise
                     // This keeps the large-scale climate which we want
-                    point.temperature = context.generator().temperatureNoise.noise(x, z);
-                    point.rainfall = context.generator().rainfallNoise.noise(x, z);
+                    final float temperature = context.generator().temperatureNoise.noise(x, z);
+                    final float rainfall = context.generator().rainfallNoise.noise(x, z);
 
                     // [0, 1], where higher = more inland
                     final float bias;
-                    if (point.land())
+                    if (region.land(index))
                     {
-                        assert point.distanceToOcean >= 0;
+                        assert region.distanceToOcean[index] >= 0;
 
                         // Bias temperature by distance to ocean, using a basic rule:
                         // Proximity to an ocean *increases* rainfall, and *normalizes* temperature, with the same bias in reverse.
-                        final float potentialBias = Mth.clampedMap(point.distanceToEdge, 2f, 6f, 0f, 1f);
-                        final float oceanProximityBias = Mth.clampedMap(point.distanceToOcean, 2f, 6f, 0f, 1f);
+                        final float potentialBias = Mth.clampedMap(region.distanceToEdge[index], 2f, 6f, 0f, 1f);
+                        final float oceanProximityBias = Mth.clampedMap(region.distanceToOcean[index], 2f, 6f, 0f, 1f);
 
                         bias = Math.min(potentialBias, oceanProximityBias);
                     }
@@ -47,8 +47,8 @@ public enum AnnotateClimate implements RegionTask
                         bias = 0;
                     }
 
-                    point.temperature = 0.77f * point.temperature + 0.23f * Mth.lerp(bias, 5f, point.temperature);
-                    point.rainfall = 0.85f * point.rainfall + 0.15f * Mth.lerp(bias, point.rainfall + 350f, point.rainfall);
+                    region.temperature[index] = 0.77f * temperature + 0.23f * Mth.lerp(bias, 5f, temperature);
+                    region.rainfall[index] = 0.85f * rainfall + 0.15f * Mth.lerp(bias, rainfall + 350f, rainfall);
                 }
             }
         }
@@ -25,14 +25,14 @@ public enum AnnotateDistanceToCellEdge implements RegionTask
             for (int dz = 0; dz < region.sizeZ(); dz++)
             {
                 final int index = dx + region.sizeX() * dz;
-                final Region.Point point = region.maybeAt(dx + region.minX(), dz + region.minZ());
-                if (point == null || isUnbounded(region, dx, dz))
+                final boolean exists = region.exists(index);
+                if (!exists || isUnbounded(region, dx, dz))
                 {
                     explored.set(index);
                     queue.enqueue(index);
-                    if (point != null)
+                    if (exists)
                     {
-                        point.distanceToEdge = -1;
+                        region.distanceToEdge[index] = -1;
                     }
                 }
             }
@@ -41,8 +41,7 @@ public enum AnnotateDistanceToCellEdge implements RegionTask
         while (!queue.isEmpty())
         {
             final int last = queue.dequeueInt();
-            final Region.Point lastPoint = region.data()[last];
-            final int nextDistance = lastPoint == null ? 0 : lastPoint.distanceToEdge + 1;
+            final int nextDistance = region.exists(last) ? region.distanceToEdge[last] + 1 : 0;
 
             for (int dx = -1; dx <= 1; dx++)
             {
@@ -53,12 +52,11 @@ public enum AnnotateDistanceToCellEdge implements RegionTask
                     {
                         continue;
                     }
-                    final Region.Point point = region.data()[next];
-                    if (point != null && point.distanceToEdge == 0)
+                    if (region.exists(next) && region.distanceToEdge[next] == 0)
                     {
                         if (!explored.get(next))
                         {
-                            point.distanceToEdge = (byte) nextDistance;
+                            region.distanceToEdge[next] = (byte) nextDistance;
                             explored.set(next);
                             queue.enqueue(next);
                         }
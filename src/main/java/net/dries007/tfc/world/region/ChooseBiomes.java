@@ -35,49 +35,50 @@ public enum ChooseBiomes implements RegionTask
             for (int dz = 0; dz < region.sizeZ(); dz++)
             {
                 final int index = dx + region.sizeX() * dz;
-                final Region.Point point = region.data()[index];
                 final int areaSeed = blobArea.get(region.minX() + dx, region.minZ() + dz);
-                if (point != null)
+                if (region.exists(index))
                 {
-                    if (point.island())
+                    int biome;
+                    if (region.island(index))
                     {
-                        point.biome = randomSeededFrom(rngSeed, areaSeed, ISLAND_BIOMES);
+                        biome = randomSeededFrom(rngSeed, areaSeed, ISLAND_BIOMES);
                     }
-                    else if (point.mountain())
+                    else if (region.mountain(index))
                     {
-                        point.biome = randomSeededFrom(rngSeed, areaSeed, point.coastalMountain() ? OCEANIC_MOUNTAIN_ALTITUDE_BIOMES : MOUNTAIN_ALTITUDE_BIOMES);
+                        biome = randomSeededFrom(rngSeed, areaSeed, region.coastalMountain(index) ? OCEANIC_MOUNTAIN_ALTITUDE_BIOMES : MOUNTAIN_ALTITUDE_BIOMES);
                     }
-                    else if (point.land())
+                    else if (region.land(index))
                     {
-                        point.biome = randomSeededFrom(rngSeed, areaSeed, switch (point.discreteBiomeAltitude()) {
+                        biome = randomSeededFrom(rngSeed, areaSeed, switch (region.discreteBiomeAltitude(index)) {
                             case 2 -> HIGH_ALTITUDE_BIOMES;
                             case 1 -> MID_ALTITUDE_BIOMES;
                             case 0 -> LOW_ALTITUDE_BIOMES;
-                            default -> throw new IllegalStateException("Invalid: " + point.discreteBiomeAltitude());
+                            default -> throw new IllegalStateException("Invalid: " + region.discreteBiomeAltitude(index));
                         });
                     }
-                    else if (point.baseOceanDepth < 3)
+                    else if (region.baseOceanDepth[index] < 3)
                     {
-                        point.biome = OCEAN;
+                        biome = OCEAN;
                     }
-                    else if (point.baseOceanDepth > 9)
+                    else if (region.baseOceanDepth[index] > 9)
                     {
-                        point.biome = DEEP_OCEAN_TRENCH;
+                        biome = DEEP_OCEAN_TRENCH;
                     }
-                    else if (point.baseOceanDepth >= 5 || point.distanceToEdge < 2)
+                    else if (region.baseOceanDepth[index] >= 5 || region.distanceToEdge[index] < 2)
                     {
-                        point.biome = DEEP_OCEAN;
+                        biome = DEEP_OCEAN;
                     }
                     else
                     {
-                        point.biome = randomSeededFrom(rngSeed, areaSeed, MID_DEPTH_OCEAN_BIOMES);
+                        biome = randomSeededFrom(rngSeed, areaSeed, MID_DEPTH_OCEAN_BIOMES);
                     }
 
                     // Apply lakes
-                    if (point.lake() && TFCLayers.hasLake(point.biome))
+                    if (region.lake(index) && TFCLayers.hasLake(biome))
                     {
-                        point.biome = TFCLayers.lakeFor(point.biome);
+                        biome = TFCLayers.lakeFor(biome);
                     }
+                    region.biome[index] = (short) biome;
                 }
             }
         }
@@ -28,8 +28,7 @@ public enum FloodFillSmallOceans implements RegionTask
             for (int dz = 0; dz < region.sizeZ(); dz++)
             {
                 final int index = dx + region.sizeX() * dz;
-                final Region.Point point = region.data()[index];
-                if (!explored.get(index) && point != null && !point.land())
+                if (!explored.get(index) && region.exists(index) && !region.land(index))
                 {
                     floodFillSmallOcean(explored, index, region);
                 }
@@ -57,13 +56,12 @@ public enum FloodFillSmallOceans implements RegionTask
                         unbounded = true;
                         continue;
                     }
-                    final Region.Point point = region.data()[next];
-                    if (point == null)
+                    if (!region.exists(next))
                     {
                         unbounded = true;
                         continue;
                     }
-                    if (point.land() || explored.get(next))
+                    if (region.land(next) || explored.get(next))
                     {
                         continue;
                     }
@@ -77,7 +75,7 @@ public enum FloodFillSmallOceans implements RegionTask
 
         if (values.size() < SMALL_OCEAN_FILL_THRESHOLD && !unbounded)
         {
-            values.forEach(i -> region.data()[i].setLand());
+            values.forEach(region::setLand);
         }
     }
 }
@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.world.region;
 
+import java.util.Arrays;
 import java.util.List;
 import org.jetbrains.annotations.Nullable;
 
@@ -13,8 +14,20 @@ import net.dries007.tfc.world.layer.TFCLayers;
 import net.dries007.tfc.world.noise.Cellular2D;
 import net.dries007.tfc.world.noise.FastNoiseLite;
 
+/**
+ * A single region, which is a grid of points. Each point is stored as a structure of arrays, one primitive array per annotated property, all indexed by {@link #index(int, int)}.
+ * Region tasks read and write these arrays directly by index. Outside of region generation, {@link Point} provides a view of a single point.
+ */
 public final class Region
 {
+    static final short FLAG_PRESENT = 0b1;
+    static final short FLAG_LAND = 0b10;
+    static final short FLAG_ISLAND = 0b100;
+    static final short FLAG_RIVER = 0b1000;
+    static final short FLAG_LAKE = 0b10000;
+    static final short FLAG_MOUNTAIN = 0b100000;
+    static final short FLAG_COASTAL_MOUNTAIN = 0b1000000;
+
     private final float cellX;
     private final float cellY;
     private final float noise;
@@ -24,9 +37,20 @@ public final class Region
     private int maxZ;
     private int sizeX;
     private int sizeZ;
-    private Point[] data;
     private @Nullable List<RiverEdge> rivers;
 
+    /** Distance to the nearest ocean. Note the actual distance may be lower if {@code distanceToEdge} is smaller than this. Negative values indicate an ocean, where {@code -2} indicates an ocean adjacent to land. */
+    byte[] distanceToOcean;
+    /** Distance to the nearest edge of the region. This is important because certain tasks need to not go too near to the edge to avoid continuity issues */
+    byte[] distanceToEdge;
+    byte[] baseOceanDepth;
+    byte[] baseLandHeight;
+    byte[] biomeAltitude;
+    float[] rainfall;
+    float[] temperature;
+    short[] biome;
+    short[] flags;
+
     public Region(Cellular2D.Cell cell)
     {
         this.cellX = cell.x();
@@ -36,25 +60,21 @@ public final class Region
         final int cellX = FastNoiseLite.FastRound(cell.x());
         final int cellZ = FastNoiseLite.FastRound(cell.y());
 
-        this.minX = cellX - Units.REGION_RADIUS_IN_GRID;
-        this.minZ = cellZ - Units.REGION_RADIUS_IN_GRID;
-        this.maxX = cellX + Units.REGION_RADIUS_IN_GRID;
-        this.maxZ = cellZ + Units.REGION_RADIUS_IN_GRID;
-
-        this.sizeX = 1 + maxX - minX;
-        this.sizeZ = 1 + maxZ - minZ;
-
-        this.data = new Point[Units.REGION_WIDTH_IN_GRID * Units.REGION_WIDTH_IN_GRID];
+        setRegionArea(cellX - Units.REGION_RADIUS_IN_GRID, cellZ - Units.REGION_RADIUS_IN_GRID, cellX + Units.REGION_RADIUS_IN_GRID, cellZ + Units.REGION_RADIUS_IN_GRID);
     }
 
-    public Point atInit(int gridX, int gridZ)
+    /**
+     * Marks the specified grid coordinates as being part of this region.
+     *
+     * @return The index of the point.
+     */
+    public int atInit(int gridX, int gridZ)
     {
         final int index = index(gridX, gridZ);
-        final Point point = new Point();
 
-        assert data[index] == null;
-        data[index] = point;
-        return point;
+        assert !exists(index);
+        flags[index] = FLAG_PRESENT;
+        return index;
     }
 
     /**
@@ -63,7 +83,8 @@ public final class Region
     @Nullable
     public Point at(int gridX, int gridZ)
     {
-        return data[index(gridX, gridZ)];
+        final int index = index(gridX, gridZ);
+        return exists(index) ? new Point(this, index) : null;
     }
 
     /**
@@ -72,7 +93,21 @@ public final class Region
     @Nullable
     public Point maybeAt(int gridX, int gridZ)
     {
-        return isIn(gridX, gridZ) ? data[index(gridX, gridZ)] : null;
+        final int index = maybeIndex(gridX, gridZ);
+        return index != -1 ? new Point(this, index) : null;
+    }
+
+    /**
+     * @return The index of the point at the specified grid coordinates. Returns {@code -1} if the coordinates are out of range of this {@link Region}'s bounding box or outside this {@link Region}.
+     */
+    public int maybeIndex(int gridX, int gridZ)
+    {
+        if (isIn(gridX, gridZ))
+        {
+            final int index = index(gridX, gridZ);
+            return exists(index) ? index : -1;
+        }
+        return -1;
     }
 
     /**
@@ -84,7 +119,7 @@ public final class Region
     }
 
     /**
-     * @return An index into {@link #data()}, based on the target index, plus a coordinate offset of {@code (offsetX, offsetZ)}. Returns {@code -1} if this is out of this {@link Region}'s bounding box.
+     * @return An index into this region's data, based on the target index, plus a coordinate offset of {@code (offsetX, offsetZ)}. Returns {@code -1} if this is out of this {@link Region}'s bounding box.
      */
     public int offset(int index, int offsetX, int offsetZ)
     {
@@ -94,7 +129,7 @@ public final class Region
     }
 
     /**
-     * @return An index into {@link #data()}, based on the global grid coordinates.
+     * @return An index into this region's data, based on the global grid coordinates.
      */
     public int index(int gridX, int gridZ)
     {
@@ -106,7 +141,14 @@ public final class Region
         return localX + sizeX * localZ;
     }
 
+    /**
+     * @return The number of points in this region's bounding box, and thus the length of each data array.
+     */
+    public int size() { return sizeX * sizeZ; }
+
     public float noise() { return noise; }
+    public float cellX() { return cellX; }
+    public float cellY() { return cellY; }
 
     public int minX() { return minX; }
     public int minZ() { return minZ; }
@@ -115,9 +157,73 @@ public final class Region
     public int sizeX() { return sizeX; }
     public int sizeZ() { return sizeZ; }
 
-    void setRegionArea(Point[] data, int minX, int minZ, int maxX, int maxZ)
+    /**
+     * @return {@code true} if the point at {@code index} is part of this region.
+     */
+    public boolean exists(int index) { return (flags[index] & FLAG_PRESENT) != 0; }
+
+    public float rainfall(int index) { return rainfall[index]; }
+    public float temperature(int index) { return temperature[index]; }
+    public int biome(int index) { return biome[index]; }
+
+    public boolean land(int index) { return (flags[index] & FLAG_LAND) != 0; }
+    public boolean island(int index) { return (flags[index] & FLAG_ISLAND) != 0; }
+    public boolean shore(int index) { return distanceToOcean[index] == -2; }
+    public boolean river(int index) { return (flags[index] & FLAG_RIVER) != 0; }
+    public boolean lake(int index) { return (flags[index] & FLAG_LAKE) != 0; }
+    public boolean mountain(int index) { return (flags[index] & FLAG_MOUNTAIN) != 0; }
+    public boolean coastalMountain(int index) { return (flags[index] & FLAG_COASTAL_MOUNTAIN) != 0; }
+
+    public int discreteBiomeAltitude(int index) { return Math.floorDiv(biomeAltitude[index], AnnotateBiomeAltitude.WIDTH); }
+
+    void setLand(int index) { flags[index] |= FLAG_LAND; }
+    void setIsland(int index) { flags[index] |= FLAG_ISLAND; }
+    void setShore(int index) { distanceToOcean[index] = -2; }
+    void setRiver(int index) { flags[index] |= FLAG_RIVER; }
+    void setLake(int index) { flags[index] |= FLAG_LAKE; }
+    void setMountain(int index) { flags[index] |= FLAG_MOUNTAIN; }
+    void setCoastalMountain(int index) { flags[index] |= FLAG_COASTAL_MOUNTAIN; }
+
+    /**
+     * Reduces the bounding box of this region, copying all existing points in the new bounding box.
+     */
+    void shrinkRegionArea(int minX, int minZ, int maxX, int maxZ)
+    {
+        final byte[] prevDistanceToOcean = distanceToOcean, prevDistanceToEdge = distanceToEdge, prevBaseOceanDepth = baseOceanDepth, prevBaseLandHeight = baseLandHeight, prevBiomeAltitude = biomeAltitude;
+        final float[] prevRainfall = rainfall, prevTemperature = temperature;
+        final short[] prevBiome = biome, prevFlags = flags;
+
+        final int offsetX = minX - this.minX;
+        final int offsetZ = minZ - this.minZ;
+        final int prevSizeX = this.sizeX;
+
+        setRegionArea(minX, minZ, maxX, maxZ);
+
+        for (int dx = 0; dx < sizeX; dx++)
+        {
+            for (int dz = 0; dz < sizeZ; dz++)
+            {
+                final int index = dx + sizeX * dz;
+                final int prevIndex = (offsetX + dx) + prevSizeX * (offsetZ + dz);
+
+                distanceToOcean[index] = prevDistanceToOcean[prevIndex];
+                distanceToEdge[index] = prevDistanceToEdge[prevIndex];
+                baseOceanDepth[index] = prevBaseOceanDepth[prevIndex];
+                baseLandHeight[index] = prevBaseLandHeight[prevIndex];
+                biomeAltitude[index] = prevBiomeAltitude[prevIndex];
+                rainfall[index] = prevRainfall[prevIndex];
+                temperature[index] = prevTemperature[prevIndex];
+                biome[index] = prevBiome[prevIndex];
+                flags[index] = prevFlags[prevIndex];
+            }
+        }
+    }
+
+    /**
+     * Sets the bounding box of this region, and allocates empty data arrays for it.
+     */
+    void setRegionArea(int minX, int minZ, int maxX, int maxZ)
     {
-        this.data = data;
         this.minX = minX;
         this.minZ = minZ;
         this.maxX = maxX;
@@ -125,7 +231,19 @@ public final class Region
         this.sizeX = 1 + maxX - minX;
         this.sizeZ = 1 + maxZ - minZ;
 
-        assert data.length == sizeX * sizeZ : "setRegionArea() data.length = %d != sizeX (%d) * sizeZ (%d)".formatted(data.length, sizeX, sizeZ);
+        final int size = sizeX * sizeZ;
+
+        distanceToOcean = new byte[size];
+        distanceToEdge = new byte[size];
+        baseOceanDepth = new byte[size];
+        baseLandHeight = new byte[size];
+        biomeAltitude = new byte[size];
+        rainfall = new float[size];
+        temperature = new float[size];
+        biome = new short[size];
+        flags = new short[size];
+
+        Arrays.fill(biome, (short) TFCLayers.OCEAN);
     }
 
     void setRivers(List<RiverEdge> rivers)
@@ -134,8 +252,6 @@ public final class Region
         this.rivers = rivers;
     }
 
-
-    public Point[] data() { return data; }
     public List<RiverEdge> rivers() { assert rivers != null; return rivers; }
 
     @Override
@@ -144,46 +260,28 @@ public final class Region
         return "Region [%d, %d] x [%d, %d] at cell (%f, %f)".formatted(minX, maxX, minZ, maxZ, cellX, cellY);
     }
 
-    public static class Point
+    /**
+     * A read only view of a single point within a {@link Region}.
+     */
+    public record Point(Region region, int index)
     {
-        static final short FLAG_LAND = 0b1;
-        static final short FLAG_ISLAND = 0b10;
-        static final short FLAG_RIVER = 0b100;
-        static final short FLAG_LAKE = 0b1000;
-        static final short FLAG_MOUNTAIN = 0b10000;
-        static final short FLAG_COASTAL_MOUNTAIN = 0b100000;
-
-        /** Distance to the nearest ocean. Note the actual distance may be lower if {@code distanceToEdge} is smaller than this. Negative values indicate an ocean, where {@code -2} indicates an ocean adjacent to land. */
-        public byte distanceToOcean = 0;
-        /** Distance to the nearest edge of the region. This is important because certain tasks need to not go too near to the edge to avoid continuity issues */
-        public byte distanceToEdge = 0;
-        public byte baseOceanDepth = 0;
-        public byte baseLandHeight = 0;
-        public byte biomeAltitude = 0;
-
-        public float rainfall;
-        public float temperature;
-
-        public int biome = TFCLayers.OCEAN;
-
-        private short flags;
-
-        public boolean land() { return (flags & FLAG_LAND) != 0; }
-        public boolean island() { return (flags & FLAG_ISLAND) != 0; }
-        public boolean shore() { return distanceToOcean == -2; }
-        public boolean river() { return (flags & FLAG_RIVER) != 0; }
-        public boolean lake() { return (flags & FLAG_LAKE) != 0; }
-        public boolean mountain() { return (flags & FLAG_MOUNTAIN) != 0; }
-        public boolean coastalMountain() { return (flags & FLAG_COASTAL_MOUNTAIN) != 0; }
-
-        public int discreteBiomeAltitude() { return Math.floorDiv(biomeAltitude, AnnotateBiomeAltitude.WIDTH); }
-
-        public void setLand() { flags |= FLAG_LAND; }
-        public void setIsland() { flags |= FLAG_ISLAND; }
-        public void setShore() { distanceToOcean = -2; }
-        public void setRiver() { flags |= FLAG_RIVER; }
-        public void setLake() { flags |= FLAG_LAKE; }
-        public void setMountain() { flags |= FLAG_MOUNTAIN; }
-        public void setCoastalMountain() { flags |= FLAG_COASTAL_MOUNTAIN; }
+        public byte distanceToOcean() { return region.distanceToOcean[index]; }
+        public byte distanceToEdge() { return region.distanceToEdge[index]; }
+        public byte baseOceanDepth() { return region.baseOceanDepth[index]; }
+        public byte baseLandHeight() { return region.baseLandHeight[index]; }
+        public byte biomeAltitude() { return region.biomeAltitude[index]; }
+        public float rainfall() { return region.rainfall(index); }
+        public float temperature() { return region.temperature(index); }
+        public int biome() { return region.biome(index); }
+
+        public boolean land() { return region.land(index); }
+        public boolean island() { return region.island(index); }
+        public boolean shore() { return region.shore(index); }
+        public boolean river() { return region.river(index); }
+        public boolean lake() { return region.lake(index); }
+        public boolean mountain() { return region.mountain(index); }
+        public boolean coastalMountain() { return region.coastalMountain(index); }
+
+        public int discreteBiomeAltitude() { return region.discreteBiomeAltitude(index); }
     }
 }
@@ -12,9 +12,11 @@ import java.util.function.BiConsumer;
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.levelgen.RandomSource;
 import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 import net.dries007.tfc.world.FastConcurrentCache;
+import net.dries007.tfc.world.SingleFlightCache;
 import net.dries007.tfc.world.layer.PLayers;
 import net.dries007.tfc.world.layer.framework.Area;
 import net.dries007.tfc.world.layer.framework.AreaFactory;
@@ -23,7 +25,7 @@ import net.dries007.tfc.world.noise.Noise2D;
 import net.dries007.tfc.world.noise.OpenSimplex2D;
 
 /**
- * This is a single-instance, threadsafe (accessible from multiple threads concurrently), generator. As such, all query-able fields of this class need to support concurrent access, either by being concurrent i.e. {@link FastConcurrentCache}, thread local {@link ThreadLocal}, or immutable / stateless i.e. {@link Noise2D}
+ * This is a single-instance, threadsafe (accessible from multiple threads concurrently), generator. As such, all query-able fields of this class need to support concurrent access, either by being concurrent i.e. {@link FastConcurrentCache} or {@link SingleFlightCache}, thread local {@link ThreadLocal}, or immutable / stateless i.e. {@link Noise2D}
  */
 public class RegionGenerator
 {
@@ -40,11 +42,13 @@ public class RegionGenerator
     final ThreadLocal<Area> rockArea;
 
     private final long seed;
-    private final FastConcurrentCache<Region> cellCache;
-    private final FastConcurrentCache<RegionPartition> partitionCache;
+    private final SingleFlightCache<Region> cellCache;
+    private final SingleFlightCache<RegionPartition> partitionCache;
 
     private final Cellular2D cellNoise;
 
+    private volatile @Nullable RegionStore store;
+
     public RegionGenerator(long seed)
     {
         final RandomSource random = new XoroshiroRandomSource(seed);
@@ -54,8 +58,9 @@ public class RegionGenerator
 
         // Both of these caches are queried, and cached, on a cell-coordinate basis
         // Since cells are large (~12km), a small concurrent cache should be enough
-        this.cellCache = new FastConcurrentCache<>(256);
-        this.partitionCache = new FastConcurrentCache<>(256);
+        // They are also expensive to build, and at startup many threads will request the same cell at once, so each is only built by a single thread
+        this.cellCache = new SingleFlightCache<>(256, 4);
+        this.partitionCache = new SingleFlightCache<>(256, 4);
 
         this.continentNoise = cellNoise.then(c -> 1 - c.f1() / (0.37f + c.f2()))
             .lazyProduct(new OpenSimplex2D(random.nextLong())
@@ -89,13 +94,36 @@ public class RegionGenerator
         final int cellX = Units.gridToCell(gridX);
         final int cellZ = Units.gridToCell(gridZ);
 
-        RegionPartition entry = partitionCache.getIfPresent(cellX, cellZ);
-        if (entry == null)
-        {
-            entry = createPartition(cellX, cellZ);
-            partitionCache.set(cellX, cellZ, entry);
-        }
-        return entry;
+        return partitionCache.getOrCreate(cellX, cellZ, () -> createPartition(cellX, cellZ));
+    }
+
+    /**
+     * Sets a persistent store, which regions will be loaded from, and saved to, if present.
+     */
+    public void setStore(@Nullable RegionStore store)
+    {
+        this.store = store;
+    }
+
+    public long seed()
+    {
+        return seed;
+    }
+
+    /**
+     * @return The cache of regions, which tracks how many regions were built, and how many duplicate builds were avoided.
+     */
+    public SingleFlightCache<Region> getRegionCache()
+    {
+        return cellCache;
+    }
+
+    /**
+     * @return The cache of partitions, which tracks how many partitions were built, and how many duplicate builds were avoided.
+     */
+    public SingleFlightCache<RegionPartition> getPartitionCache()
+    {
+        return partitionCache;
     }
 
     private RegionPartition createPartition(int cellX, int cellZ)
@@ -146,13 +174,27 @@ public class RegionGenerator
         final int cellX = Float.floatToIntBits(cell.x());
         final int cellZ = Float.floatToIntBits(cell.y());
 
-        Region entry = cellCache.getIfPresent(cellX, cellZ);
-        if (entry == null)
+        return cellCache.getOrCreate(cellX, cellZ, () -> loadOrCreateRegion(cell));
+    }
+
+    private Region loadOrCreateRegion(Cellular2D.Cell cell)
+    {
+        final RegionStore store = this.store;
+        if (store != null)
+        {
+            final Region region = store.load(cell);
+            if (region != null)
+            {
+                return region;
+            }
+        }
+
+        final Region region = createRegion(cell, (id, r) -> {});
+        if (store != null)
         {
-            entry = createRegion(cell, (id, r) -> {});
-            cellCache.set(cellX, cellZ, entry);
+            store.save(cell, region);
         }
-        return entry;
+        return region;
     }
 
     private Region createRegion(Cellular2D.Cell regionCell, BiConsumer<Task, Region> viewer)
@@ -0,0 +1,243 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.region;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import com.mojang.logging.LogUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import net.dries007.tfc.world.noise.Cellular2D;
+import net.dries007.tfc.world.noise.FastNoiseLite;
+import net.dries007.tfc.world.river.MidpointFractal;
+import net.dries007.tfc.world.river.RiverFractal;
+
+/**
+ * A persistent, on disk, store of fully generated {@link Region}s, with one file per region. This allows a {@link RegionGenerator} to skip running the entire {@link RegionGenerator.Task} pipeline for regions built during a previous run.
+ * <p>
+ * Each file starts with a header containing the generator seed and {@link #VERSION}. Files which don't match are ignored, and overwritten when the region is next built. {@link #VERSION} <strong>must</strong> be incremented whenever a change is made to the region generation, or the format.
+ */
+public final class RegionStore
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final int MAGIC = 0x54464352; // 'TFCR'
+    private static final int VERSION = 2;
+
+    private static final int VERTEX_BYTES = 4 * 4 + 4;
+    private static final int MIN_RIVER_BYTES = 2 * VERTEX_BYTES + 1 + 4 + 4 + 4; // Two vertices, source flag, drain index, segment count, norm
+
+    private final Path directory;
+    private final long seed;
+
+    public RegionStore(Path directory, long seed)
+    {
+        this.directory = directory;
+        this.seed = seed;
+    }
+
+    /**
+     * @return The region for the given cell, or {@code null} if it is not present, or could not be read.
+     */
+    @Nullable
+    public Region load(Cellular2D.Cell cell)
+    {
+        final Path path = path(cell);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer, cell);
+        }
+        catch (NoSuchFileException e)
+        {
+            return null;
+        }
+        catch (IOException | RuntimeException e)
+        {
+            // Any corrupt or truncated file is treated as missing, rather than failing world generation
+            LOGGER.warn("Unable to read region {}, it will be regenerated: {}", path, e.toString());
+            return null;
+        }
+    }
+
+    public void save(Cellular2D.Cell cell, Region region)
+    {
+        final Path path = path(cell);
+        try
+        {
+            Files.createDirectories(directory);
+
+            // Write to a temporary file, and then move, so a crash mid-write never leaves a partial region behind
+            final Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try
+            {
+                Files.write(temp, write(cell, region).array());
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            finally
+            {
+                Files.deleteIfExists(temp);
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to save region {}: {}", path, e.toString());
+        }
+    }
+
+    private Path path(Cellular2D.Cell cell)
+    {
+        return directory.resolve("%08x.%08x.region".formatted(Float.floatToIntBits(cell.x()), Float.floatToIntBits(cell.y())));
+    }
+
+    @Nullable
+    private Region read(ByteBuffer buffer, Cellular2D.Cell cell)
+    {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != seed || buffer.getFloat() != cell.x() || buffer.getFloat() != cell.y())
+        {
+            return null; // Stale, or written by a different world or version
+        }
+
+        // The stored area must lie within the area the region was originally built in, as that bounds the size of every array read below
+        final int cellX = FastNoiseLite.FastRound(cell.x()), cellZ = FastNoiseLite.FastRound(cell.y());
+        final int minX = buffer.getInt(), minZ = buffer.getInt(), maxX = buffer.getInt(), maxZ = buffer.getInt();
+        check(minX <= maxX && minZ <= maxZ, "Invalid area");
+        check(minX >= cellX - Units.REGION_RADIUS_IN_GRID && maxX <= cellX + Units.REGION_RADIUS_IN_GRID, "Area out of range in x");
+        check(minZ >= cellZ - Units.REGION_RADIUS_IN_GRID && maxZ <= cellZ + Units.REGION_RADIUS_IN_GRID, "Area out of range in z");
+
+        final Region region = new Region(cell);
+        region.setRegionArea(minX, minZ, maxX, maxZ);
+
+        // Each array is stored contiguously, in the same order as written
+        buffer.get(region.distanceToOcean).get(region.distanceToEdge).get(region.baseOceanDepth).get(region.baseLandHeight).get(region.biomeAltitude);
+        readFloats(buffer, region.rainfall);
+        readFloats(buffer, region.temperature);
+        readShorts(buffer, region.biome);
+        readShorts(buffer, region.flags);
+
+        final int riverCount = buffer.getInt();
+        check(riverCount >= 0 && riverCount <= buffer.remaining() / MIN_RIVER_BYTES, "Invalid river count");
+        final List<RiverEdge> rivers = new ArrayList<>(riverCount);
+        final int[] drains = new int[riverCount];
+        for (int i = 0; i < riverCount; i++)
+        {
+            final RiverFractal.Vertex source = readVertex(buffer);
+            final RiverFractal.Vertex drain = readVertex(buffer);
+            final boolean isSource = buffer.get() != 0;
+            drains[i] = buffer.getInt();
+            check(drains[i] >= -1 && drains[i] < riverCount, "Invalid drain index");
+
+            final int segmentCount = buffer.getInt();
+            check(segmentCount >= 0 && segmentCount <= (buffer.remaining() - 4) / 4, "Invalid segment count");
+
+            final float[] segments = new float[segmentCount];
+            for (int j = 0; j < segments.length; j++)
+            {
+                segments[j] = buffer.getFloat();
+            }
+            final RiverEdge edge = new RiverEdge(source, drain, new MidpointFractal(segments, buffer.getFloat()));
+            edge.setSource(isSource);
+            rivers.add(edge);
+        }
+        for (int i = 0; i < riverCount; i++)
+        {
+            rivers.get(i).setDrainEdge(drains[i] == -1 ? null : rivers.get(drains[i]));
+        }
+        region.setRivers(rivers);
+        return region;
+    }
+
+    private void check(boolean condition, String message)
+    {
+        if (!condition)
+        {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private ByteBuffer write(Cellular2D.Cell cell, Region region)
+    {
+        final List<RiverEdge> rivers = region.rivers();
+
+        int size = 4 + 4 + 8 + 4 + 4 + 4 * 4 + (5 + 4 + 4 + 2 + 2) * region.size() + 4;
+        for (RiverEdge edge : rivers)
+        {
+            size += MIN_RIVER_BYTES + 4 * edge.fractal().segments.length;
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(seed).putFloat(cell.x()).putFloat(cell.y());
+        buffer.putInt(region.minX()).putInt(region.minZ()).putInt(region.maxX()).putInt(region.maxZ());
+        buffer.put(region.distanceToOcean).put(region.distanceToEdge).put(region.baseOceanDepth).put(region.baseLandHeight).put(region.biomeAltitude);
+        writeFloats(buffer, region.rainfall);
+        writeFloats(buffer, region.temperature);
+        writeShorts(buffer, region.biome);
+        writeShorts(buffer, region.flags);
+
+        buffer.putInt(rivers.size());
+        for (RiverEdge edge : rivers)
+        {
+            writeVertex(buffer, edge.source());
+            writeVertex(buffer, edge.drain());
+            buffer.put((byte) (edge.isSource() ? 1 : 0));
+            buffer.putInt(edge.isDrain() ? -1 : rivers.indexOf(edge.drainEdge()));
+
+            final MidpointFractal fractal = edge.fractal();
+            buffer.putInt(fractal.segments.length);
+            for (float f : fractal.segments)
+            {
+                buffer.putFloat(f);
+            }
+            buffer.putFloat(fractal.norm());
+        }
+        return buffer;
+    }
+
+    private void readFloats(ByteBuffer buffer, float[] array)
+    {
+        buffer.asFloatBuffer().get(array);
+        buffer.position(buffer.position() + 4 * array.length);
+    }
+
+    private void readShorts(ByteBuffer buffer, short[] array)
+    {
+        buffer.asShortBuffer().get(array);
+        buffer.position(buffer.position() + 2 * array.length);
+    }
+
+    private void writeFloats(ByteBuffer buffer, float[] array)
+    {
+        buffer.asFloatBuffer().put(array);
+        buffer.position(buffer.position() + 4 * array.length);
+    }
+
+    private void writeShorts(ByteBuffer buffer, short[] array)
+    {
+        buffer.asShortBuffer().put(array);
+        buffer.position(buffer.position() + 2 * array.length);
+    }
+
+    private RiverFractal.Vertex readVertex(ByteBuffer buffer)
+    {
+        return new RiverFractal.Vertex(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getInt());
+    }
+
+    private void writeVertex(ByteBuffer buffer, RiverFractal.Vertex vertex)
+    {
+        buffer.putFloat(vertex.x()).putFloat(vertex.y()).putFloat(vertex.angle()).putFloat(vertex.length()).putInt(vertex.distance());
+    }
+}
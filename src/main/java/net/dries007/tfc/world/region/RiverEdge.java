@@ -27,12 +27,17 @@ public final class RiverEdge
 
     public RiverEdge(RiverFractal.Edge edge, RandomSource random)
     {
-        this.sourceVertex = edge.source();
-        this.drainVertex = edge.drain();
-        this.fractal = edge.fractal(random, 4);
+        this(edge.source(), edge.drain(), edge.fractal(random, 4));
+    }
+
+    RiverEdge(RiverFractal.Vertex sourceVertex, RiverFractal.Vertex drainVertex, MidpointFractal fractal)
+    {
+        this.sourceVertex = sourceVertex;
+        this.drainVertex = drainVertex;
+        this.fractal = fractal;
 
-        final int centerGridX = Math.round(0.5f * (edge.source().x() + edge.drain().x()));
-        final int centerGridZ = Math.round(0.5f * (edge.source().y() + edge.drain().y()));
+        final int centerGridX = Math.round(0.5f * (sourceVertex.x() + drainVertex.x()));
+        final int centerGridZ = Math.round(0.5f * (sourceVertex.y() + drainVertex.y()));
 
         this.minPartX = Units.gridToPart(centerGridX - MAX_AFFECTING_GRID_DISTANCE);
         this.minPartZ = Units.gridToPart(centerGridZ - MAX_AFFECTING_GRID_DISTANCE);
@@ -60,6 +65,12 @@ public final class RiverEdge
         this.source = source;
     }
 
+    @Nullable
+    RiverEdge drainEdge()
+    {
+        return drainEdge;
+    }
+
     public void setDrainEdge(@Nullable RiverEdge drainEdge)
     {
         this.drainEdge = drainEdge;
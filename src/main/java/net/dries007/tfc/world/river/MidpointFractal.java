@@ -93,6 +93,20 @@ public class MidpointFractal
         this.norm = ENCOMPASSING_RANGES[bisections] * RiverHelpers.normInf(sourceX - drainX, sourceY - drainY);
     }
 
+    /**
+     * Recreates a fractal from previously computed segments, i.e. when reading from disk.
+     */
+    public MidpointFractal(float[] segments, float norm)
+    {
+        this.segments = segments;
+        this.norm = norm;
+    }
+
+    public float norm()
+    {
+        return norm;
+    }
+
     /**
      * Checks if a given point (x, y) comes within a minimum {@code distance} of the bounding box of the fractal.
      * Faster and more efficient than checking {@link #intersect(float, float, float)}.
@@ -0,0 +1,113 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.blocks;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTestGenerator;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.gametest.framework.TestFunction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.gametest.GameTestHolder;
+
+import net.dries007.tfc.MyTest;
+import net.dries007.tfc.TestAssertions;
+import net.dries007.tfc.common.blockentities.CropBlockEntity;
+import net.dries007.tfc.common.blockentities.FarmlandBlockEntity.NutrientType;
+import net.dries007.tfc.common.blockentities.IFarmland;
+import net.dries007.tfc.common.blocks.TFCBlocks;
+import net.dries007.tfc.common.blocks.crop.Crop;
+import net.dries007.tfc.common.blocks.crop.CropHelpers;
+import net.dries007.tfc.common.blocks.soil.SoilBlockType;
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.calendar.ICalendar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@GameTestHolder
+public class CropTests
+{
+    @GameTestGenerator
+    public Collection<TestFunction> generator()
+    {
+        return TestAssertions.testGenerator();
+    }
+
+    @MyTest(unitTest = true)
+    public void testCatchUpMatchesSteppedGrowth(GameTestHelper helper)
+    {
+        final long seed = 19827384739241223L;
+        for (long days : new long[] {1, 5, 20, 40, 400})
+        {
+            for (Crop crop : List.of(Crop.BARLEY, Crop.CARROT, Crop.RICE))
+            {
+                final Result stepped = grow(helper, crop, days, seed, false);
+                final Result catchUp = grow(helper, crop, days, seed, true);
+
+                assertEquals(stepped, catchUp, "Growing " + crop + " for " + days + " days");
+            }
+        }
+    }
+
+    /**
+     * Plants a new crop, sets it to have last grown the given number of days ago, and catches it up. The reference path is the per-step loop used prior to catch-up, which calls {@link CropHelpers#growthTickStep} for each step.
+     */
+    private Result grow(GameTestHelper helper, Crop crop, long days, long seed, boolean catchUp)
+    {
+        final ServerLevel level = helper.getLevel();
+        final BlockPos pos = helper.absolutePos(new BlockPos(1, 2, 1));
+        final BlockPos farmlandPos = pos.below();
+
+        // Replace both blocks, so we always start with new block entities
+        level.setBlockAndUpdate(pos, Blocks.AIR.defaultBlockState());
+        level.setBlockAndUpdate(farmlandPos, Blocks.AIR.defaultBlockState());
+        level.setBlockAndUpdate(farmlandPos, TFCBlocks.SOIL.get(SoilBlockType.FARMLAND).get(SoilBlockType.Variant.LOAM).get().defaultBlockState());
+        level.setBlockAndUpdate(pos, TFCBlocks.CROPS.get(crop).get().defaultBlockState());
+
+        final BlockState state = level.getBlockState(pos);
+        final CropBlockEntity cropEntity = (CropBlockEntity) level.getBlockEntity(pos);
+        final IFarmland farmland = (IFarmland) level.getBlockEntity(farmlandPos);
+
+        assertNotNull(cropEntity);
+        assertNotNull(farmland);
+
+        for (NutrientType type : NutrientType.VALUES)
+        {
+            farmland.setNutrient(type, 0.5f);
+        }
+
+        final long thisTick = Calendars.SERVER.getTicks(), firstTick = thisTick - days * ICalendar.TICKS_IN_DAY;
+        final Random random = new Random(seed);
+        cropEntity.setLastGrowthTick(firstTick);
+
+        final boolean survived;
+        if (catchUp)
+        {
+            survived = CropHelpers.growthTick(level, pos, state, cropEntity, random);
+        }
+        else
+        {
+            boolean alive = true;
+            long tick = firstTick + CropHelpers.UPDATE_INTERVAL, lastTick = firstTick;
+            for (; alive && tick < thisTick; tick += CropHelpers.UPDATE_INTERVAL)
+            {
+                alive = CropHelpers.growthTickStep(level, pos, state, random, lastTick, tick, cropEntity);
+                lastTick = tick;
+            }
+            survived = alive && (lastTick >= thisTick || CropHelpers.growthTickStep(level, pos, state, random, lastTick, thisTick, cropEntity));
+        }
+
+        return new Result(survived, level.getBlockState(pos), cropEntity.getGrowth(), cropEntity.getYield(), cropEntity.getExpiry(), farmland.getNutrient(NutrientType.NITROGEN), farmland.getNutrient(NutrientType.PHOSPHOROUS), farmland.getNutrient(NutrientType.POTASSIUM));
+    }
+
+    record Result(boolean survived, BlockState state, float growth, float yield, float expiry, float nitrogen, float phosphorous, float potassium) {}
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.world;
+
+import net.minecraft.world.level.levelgen.RandomSource;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.world.ChunkHeightFiller;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkHeightFillerTests extends TestHelper
+{
+    @Test
+    public void testInterpolationIsExactForPlanes()
+    {
+        final double[] columns = columns((x, z) -> 64 + 3.7 * x - 2.1 * z);
+        final double[] quartHeights = quartHeights(columns);
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                assertEquals(columns[x + 17 * z], ChunkHeightFiller.interpolateQuartHeights(quartHeights, x, z), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void testInterpolationErrorIsBoundedAcrossCliffs()
+    {
+        assertErrorIsBounded(columns((x, z) -> x < 7 ? 60 : 100));
+        assertErrorIsBounded(columns((x, z) -> x + z < 13 ? 50 : 110));
+    }
+
+    @RepeatedTest(10)
+    public void testInterpolationErrorIsBoundedOnSteepTerrain()
+    {
+        final RandomSource random = new XoroshiroRandomSource(seed());
+        final double slope = 1 + 8 * random.nextDouble();
+        assertErrorIsBounded(columns((x, z) -> 64 + slope * (random.nextDouble() - 0.5) * 16 + 20 * Math.sin(x * slope * 0.3) * Math.cos(z * 0.7)));
+    }
+
+    /**
+     * Asserts the bound documented on {@link ChunkHeightFiller#interpolateQuartHeights(double[], int, int)}, for every column of a chunk.
+     */
+    private void assertErrorIsBounded(double[] columns)
+    {
+        final double[] quartHeights = quartHeights(columns);
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                // The 5x5 block area spanned by the four surrounding quart positions
+                final int minX = x & ~3, minZ = z & ~3;
+                double min = Double.MAX_VALUE, max = -Double.MAX_VALUE, slope = 0;
+                for (int dx = 0; dx <= 4; dx++)
+                {
+                    for (int dz = 0; dz <= 4; dz++)
+                    {
+                        final double height = columns[(minX + dx) + 17 * (minZ + dz)];
+                        min = Math.min(min, height);
+                        max = Math.max(max, height);
+                        if (dx < 4)
+                        {
+                            slope = Math.max(slope, Math.abs(columns[(minX + dx + 1) + 17 * (minZ + dz)] - height));
+                        }
+                        if (dz < 4)
+                        {
+                            slope = Math.max(slope, Math.abs(columns[(minX + dx) + 17 * (minZ + dz + 1)] - height));
+                        }
+                    }
+                }
+
+                final double bound = Math.min(max - min, 4 * slope) + 1e-9;
+                final double error = Math.abs(columns[x + 17 * z] - ChunkHeightFiller.interpolateQuartHeights(quartHeights, x, z));
+                final int localX = x, localZ = z;
+                assertTrue(error <= bound, () -> "Error " + error + " exceeds bound " + bound + " at x=" + localX + ", z=" + localZ);
+            }
+        }
+    }
+
+    /**
+     * @return The height of each column of a chunk, including the far edges, indexed by {@code x + 17 * z}.
+     */
+    private double[] columns(Heightmap heightmap)
+    {
+        final double[] columns = new double[17 * 17];
+        for (int x = 0; x <= 16; x++)
+        {
+            for (int z = 0; z <= 16; z++)
+            {
+                columns[x + 17 * z] = heightmap.height(x, z);
+            }
+        }
+        return columns;
+    }
+
+    private double[] quartHeights(double[] columns)
+    {
+        final double[] quartHeights = new double[5 * 5];
+        for (int x = 0; x < 5; x++)
+        {
+            for (int z = 0; z < 5; z++)
+            {
+                quartHeights[x + 5 * z] = columns[(x << 2) + 17 * (z << 2)];
+            }
+        }
+        return quartHeights;
+    }
+
+    @FunctionalInterface
+    interface Heightmap
+    {
+        double height(int x, int z);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.world;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.world.FastConcurrentCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FastConcurrentCacheTests extends TestHelper
+{
+    @Test
+    public void testGetAndSet()
+    {
+        final FastConcurrentCache<String> cache = new FastConcurrentCache<>(16);
+
+        assertNull(cache.getIfPresent(1, 2));
+        cache.set(1, 2, "a");
+        assertEquals("a", cache.getIfPresent(1, 2));
+        cache.set(1, 2, "b");
+        assertEquals("b", cache.getIfPresent(1, 2));
+
+        assertEquals(2, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(0, cache.evictions());
+    }
+
+    @Test
+    public void testFullyAssociativeCacheHoldsAllKeys()
+    {
+        final FastConcurrentCache<Integer> cache = new FastConcurrentCache<>(4, 4);
+        for (int i = 0; i < 4; i++)
+        {
+            cache.set(i, -i, i);
+        }
+        for (int i = 0; i < 4; i++)
+        {
+            assertEquals(i, cache.getIfPresent(i, -i));
+        }
+        assertEquals(0, cache.evictions());
+
+        cache.set(10, 10, 10);
+        assertEquals(10, cache.getIfPresent(10, 10));
+        assertEquals(1, cache.evictions());
+
+        int present = 0;
+        for (int i = 0; i < 4; i++)
+        {
+            if (cache.getIfPresent(i, -i) != null) present++;
+        }
+        assertEquals(3, present);
+    }
+}
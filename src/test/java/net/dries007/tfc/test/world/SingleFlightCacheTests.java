@@ -0,0 +1,121 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.world;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.world.SingleFlightCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightCacheTests extends TestHelper
+{
+    @Test
+    public void testConcurrentMissesBuildOnce() throws Exception
+    {
+        final int threads = 8;
+        final SingleFlightCache<Object> cache = new SingleFlightCache<>(16, 1);
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            final List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++)
+            {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.getOrCreate(3, -7, () -> {
+                        calls.incrementAndGet();
+                        try
+                        {
+                            Thread.sleep(200); // Make the build slow enough that all threads miss
+                        }
+                        catch (InterruptedException e)
+                        {
+                            throw new RuntimeException(e);
+                        }
+                        return new Object();
+                    });
+                }));
+            }
+            start.countDown();
+
+            final Object first = results.get(0).get();
+            for (Future<Object> result : results)
+            {
+                assertSame(first, result.get());
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.builds());
+        assertTrue(cache.deduplicated() > 0, "Expected other threads to wait on the in-flight build");
+    }
+
+    @Test
+    public void testWaitersSeeOriginalException() throws Exception
+    {
+        final int threads = 4;
+        final SingleFlightCache<Object> cache = new SingleFlightCache<>(16, 1);
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            final List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++)
+            {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try
+                    {
+                        cache.getOrCreate(5, 5, () -> {
+                            try
+                            {
+                                Thread.sleep(200);
+                            }
+                            catch (InterruptedException e)
+                            {
+                                throw new RuntimeException(e);
+                            }
+                            throw new IllegalStateException("Failed");
+                        });
+                        return null;
+                    }
+                    catch (RuntimeException e)
+                    {
+                        return e;
+                    }
+                }));
+            }
+            start.countDown();
+
+            for (Future<Object> result : results)
+            {
+                final Object error = result.get();
+                assertInstanceOf(IllegalStateException.class, error);
+                assertEquals("Failed", ((Throwable) error).getMessage());
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+}